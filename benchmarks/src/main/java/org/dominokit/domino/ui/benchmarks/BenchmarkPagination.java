@@ -0,0 +1,123 @@
+package org.dominokit.domino.ui.benchmarks;
+
+import org.dominokit.domino.ui.pagination.HasPagination;
+
+/**
+ * A pagination without a UI, keeps the active page and the pages count the store asks for.
+ */
+public class BenchmarkPagination implements HasPagination {
+
+    private int pageSize;
+    private int activePage = 1;
+    private int pagesCount = 0;
+
+    public BenchmarkPagination(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public HasPagination gotoPage(int page) {
+        return gotoPage(page, false);
+    }
+
+    @Override
+    public HasPagination gotoPage(int page, boolean silent) {
+        this.activePage = Math.max(1, Math.min(page, pagesCount));
+        return this;
+    }
+
+    @Override
+    public HasPagination nextPage() {
+        return gotoPage(activePage + 1);
+    }
+
+    @Override
+    public HasPagination previousPage() {
+        return gotoPage(activePage - 1);
+    }
+
+    @Override
+    public HasPagination nextPage(boolean silent) {
+        return gotoPage(activePage + 1, silent);
+    }
+
+    @Override
+    public HasPagination previousPage(boolean silent) {
+        return gotoPage(activePage - 1, silent);
+    }
+
+    @Override
+    public HasPagination gotoFirst() {
+        return gotoPage(1);
+    }
+
+    @Override
+    public HasPagination gotoLast() {
+        return gotoPage(pagesCount);
+    }
+
+    @Override
+    public HasPagination gotoFirst(boolean silent) {
+        return gotoPage(1, silent);
+    }
+
+    @Override
+    public HasPagination gotoLast(boolean silent) {
+        return gotoPage(pagesCount, silent);
+    }
+
+    @Override
+    public HasPagination markActivePage() {
+        return this;
+    }
+
+    @Override
+    public HasPagination updatePages(int pages) {
+        this.pagesCount = pages;
+        this.activePage = 1;
+        return this;
+    }
+
+    @Override
+    public HasPagination updatePages(int pages, int pageSize) {
+        this.pageSize = pageSize;
+        return updatePages(pages);
+    }
+
+    @Override
+    public HasPagination updatePagesByTotalCount(int totalCount) {
+        return updatePages(totalCount / pageSize + (totalCount % pageSize > 0 ? 1 : 0));
+    }
+
+    @Override
+    public HasPagination updatePagesByTotalCount(int totalCount, int pageSize) {
+        this.pageSize = pageSize;
+        return updatePagesByTotalCount(totalCount);
+    }
+
+    @Override
+    public HasPagination setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+        return this;
+    }
+
+    @Override
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    @Override
+    public int activePage() {
+        return activePage;
+    }
+
+    @Override
+    public int getPagesCount() {
+        return pagesCount;
+    }
+
+    @Override
+    public HasPagination onPageChanged(PageChangedCallBack pageChangedCallBack) {
+        return this;
+    }
+}
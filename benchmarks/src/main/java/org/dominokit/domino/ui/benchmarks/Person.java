@@ -0,0 +1,59 @@
+package org.dominokit.domino.ui.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class Person {
+
+    private static final String[] FIRST_NAMES = {"Ahmad", "Sara", "Ravi", "Zoe", "Ines", "Jose", "Mai", "Omar", "Lena", "Kofi"};
+    private static final String[] LAST_NAMES = {"Hamouda", "Saleh", "Ivanova", "Muller", "Garcia", "Nguyen", "Tanaka", "Okafor", "Smith", "Rossi"};
+    private static final String[] CITIES = {"Amman", "Berlin", "Lagos", "Lima", "Osaka", "Paris", "Pune", "Quito", "Rome", "Oslo"};
+
+    private final int id;
+    private final String name;
+    private final String city;
+    private final int age;
+    private final double balance;
+
+    public Person(int id, String name, String city, int age, double balance) {
+        this.id = id;
+        this.name = name;
+        this.city = city;
+        this.age = age;
+        this.balance = balance;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    public double getBalance() {
+        return balance;
+    }
+
+    /**
+     * @return the same records for the same size and seed so every fork and iteration works on identical data
+     */
+    public static List<Person> generate(int size, long seed) {
+        Random random = new Random(seed);
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            persons.add(new Person(i, name, CITIES[random.nextInt(CITIES.length)], 18 + random.nextInt(60), random.nextInt(1000000) / 100.0));
+        }
+        return persons;
+    }
+}
@@ -0,0 +1,73 @@
+package org.dominokit.domino.ui.benchmarks;
+
+import org.dominokit.domino.ui.datatable.ColumnConfig;
+import org.dominokit.domino.ui.datatable.events.SearchEvent;
+import org.dominokit.domino.ui.datatable.plugins.SortDirection;
+import org.dominokit.domino.ui.datatable.store.RecordsSorter;
+import org.dominokit.domino.ui.datatable.store.SearchFilter;
+import org.dominokit.domino.ui.datatable.store.SearchTextProvider;
+import org.dominokit.domino.ui.datatable.store.SortValueProvider;
+
+import java.util.Comparator;
+
+/**
+ * The columns, sorter and search filter the benchmarks configure the stores with, written the way an application
+ * would write them for the {@link Person} records.
+ */
+public final class PersonTable {
+
+    public static final ColumnConfig<Person> NAME = ColumnConfig.create("name", "Name");
+    public static final ColumnConfig<Person> CITY = ColumnConfig.create("city", "City");
+    public static final ColumnConfig<Person> AGE = ColumnConfig.create("age", "Age");
+    public static final ColumnConfig<Person> BALANCE = ColumnConfig.create("balance", "Balance");
+
+    public static final RecordsSorter<Person> SORTER = (sortBy, sortDirection) -> {
+        Comparator<Person> comparator;
+        switch (sortBy) {
+            case "name":
+                comparator = Comparator.comparing(Person::getName);
+                break;
+            case "city":
+                comparator = Comparator.comparing(Person::getCity);
+                break;
+            case "age":
+                comparator = Comparator.comparingInt(Person::getAge);
+                break;
+            default:
+                comparator = Comparator.comparingDouble(Person::getBalance);
+        }
+        return SortDirection.ASC.equals(sortDirection) ? comparator : comparator.reversed();
+    };
+
+    public static final SortValueProvider<Person> SORT_VALUES = (person, sortBy) -> {
+        switch (sortBy) {
+            case "name":
+                return person.getName();
+            case "city":
+                return person.getCity();
+            case "age":
+                return person.getAge();
+            default:
+                return person.getBalance();
+        }
+    };
+
+    public static final SearchFilter<Person> SEARCH_FILTER = (event, person) -> {
+        String searchText = event.getSearchText().toLowerCase();
+        if ("city".equals(event.getSearchField())) {
+            return person.getCity().toLowerCase().contains(searchText);
+        }
+        return person.getName().toLowerCase().contains(searchText)
+                || person.getCity().toLowerCase().contains(searchText);
+    };
+
+    public static final SearchTextProvider<Person> SEARCH_TEXT = (person, searchField) ->
+            "city".equals(searchField) ? person.getCity() : person.getName() + " " + person.getCity();
+
+    public static SearchEvent search(String text) {
+        return new SearchEvent(text, "all");
+    }
+
+    private PersonTable() {
+    }
+}
@@ -0,0 +1,62 @@
+package org.dominokit.domino.ui.benchmarks;
+
+import org.dominokit.domino.ui.datatable.plugins.SortDirection;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the comparators returned by a {@link org.dominokit.domino.ui.datatable.store.RecordsSorter} on their own,
+ * a single comparison and a full sort of a shuffled copy of the records, without the store around them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecordsSorterBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    @Param({"name", "age", "balance"})
+    public String sortBy;
+
+    private List<Person> shuffled;
+    private Comparator<Person> comparator;
+    private Person[] pairs;
+    private int turn = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        shuffled = new ArrayList<>(Person.generate(size, 42));
+        Collections.shuffle(shuffled, new Random(7));
+        comparator = PersonTable.SORTER.onSortChange(sortBy, SortDirection.DESC);
+        pairs = shuffled.subList(0, Math.min(1024, size)).toArray(new Person[0]);
+    }
+
+    @Benchmark
+    public Comparator<Person> onSortChange() {
+        return PersonTable.SORTER.onSortChange(sortBy, SortDirection.DESC);
+    }
+
+    @Benchmark
+    public int compare() {
+        int index = (turn = (turn + 1) % pairs.length);
+        return comparator.compare(pairs[index], pairs[(index + 1) % pairs.length]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Person> sort() {
+        List<Person> records = new ArrayList<>(shuffled);
+        records.sort(comparator);
+        return records;
+    }
+}
@@ -0,0 +1,68 @@
+package org.dominokit.domino.ui.benchmarks;
+
+import org.dominokit.domino.ui.datatable.events.BodyScrollEvent;
+import org.dominokit.domino.ui.datatable.events.SearchEvent;
+import org.dominokit.domino.ui.datatable.plugins.BodyScrollPlugin;
+import org.dominokit.domino.ui.datatable.store.LocalListScrollingDataSource;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scrolls a {@link LocalListScrollingDataSource} to the bottom page by page, with and without a window of kept
+ * pages, and searches it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScrollingDataSourceBenchmark {
+
+    private static final BodyScrollEvent BOTTOM = new BodyScrollEvent(BodyScrollPlugin.ScrollPosition.BOTTOM);
+    private static final SearchEvent[] SEARCHES = {PersonTable.search("sa"), PersonTable.search("os")};
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    @Param({"0", "5"})
+    public int maxPages;
+
+    private LocalListScrollingDataSource<Person> dataSource;
+    private List<Person> page;
+    private boolean appended;
+    private int turn = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        dataSource = new LocalListScrollingDataSource<>(new ArrayList<>(Person.generate(size, 42)), 50)
+                .setSearchFilter(PersonTable.SEARCH_FILTER)
+                .setSearchCacheSize(0)
+                .setMaxPages(maxPages);
+        dataSource.onDataChanged(event -> {
+            page = event.getNewData();
+            appended = event.isAppend();
+        });
+        dataSource.load();
+    }
+
+    @Benchmark
+    public List<Person> scrollToBottom() {
+        appended = false;
+        dataSource.handleEvent(BOTTOM);
+        if (!appended) {
+            dataSource.load();
+        }
+        return page;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Person> search() {
+        dataSource.handleEvent(SEARCHES[turn++ & 1]);
+        return page;
+    }
+}
@@ -0,0 +1,43 @@
+package org.dominokit.domino.ui.benchmarks;
+
+import org.dominokit.domino.ui.datatable.events.SearchEvent;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Evaluates a {@link org.dominokit.domino.ui.datatable.store.SearchFilter} over all the records, the cost a local
+ * store pays for a search that can not be narrowed or served from the cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchFilterBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    @Param({"sa", "rome", "no match"})
+    public String searchText;
+
+    private List<Person> records;
+    private SearchEvent event;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        records = Person.generate(size, 42);
+        event = PersonTable.search(searchText);
+    }
+
+    @Benchmark
+    public void filterRecords(Blackhole blackhole) {
+        for (Person record : records) {
+            blackhole.consume(PersonTable.SEARCH_FILTER.filterRecord(event, record));
+        }
+    }
+}
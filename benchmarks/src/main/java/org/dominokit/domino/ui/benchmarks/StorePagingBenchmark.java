@@ -0,0 +1,52 @@
+package org.dominokit.domino.ui.benchmarks;
+
+import org.dominokit.domino.ui.datatable.events.TablePageChangeEvent;
+import org.dominokit.domino.ui.datatable.store.LocalListDataStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves a {@link LocalListDataStore} through its pages, measures slicing the page records out of the filtered
+ * records and notifying the store listeners.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StorePagingBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    @Param({"25", "100"})
+    public int pageSize;
+
+    private LocalListDataStore<Person> store;
+    private BenchmarkPagination pagination;
+    private List<Person> page;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        pagination = new BenchmarkPagination(pageSize);
+        store = new LocalListDataStore<>(new ArrayList<>(Person.generate(size, 42)))
+                .setPagination(pagination);
+        store.onDataChanged(event -> page = event.getNewData());
+        store.load();
+    }
+
+    @Benchmark
+    public List<Person> nextPage() {
+        if (pagination.activePage() == pagination.getPagesCount()) {
+            pagination.gotoFirst();
+        } else {
+            pagination.nextPage();
+        }
+        store.handleEvent(new TablePageChangeEvent(pagination.activePage(), pagination));
+        return page;
+    }
+}
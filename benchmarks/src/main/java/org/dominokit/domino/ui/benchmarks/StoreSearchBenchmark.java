@@ -0,0 +1,54 @@
+package org.dominokit.domino.ui.benchmarks;
+
+import org.dominokit.domino.ui.datatable.events.SearchEvent;
+import org.dominokit.domino.ui.datatable.store.LocalListDataStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Searches a paginated {@link LocalListDataStore} and returns the first page of the result. The search cache is
+ * disabled and two texts are searched in turn so every invocation filters all the records.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StoreSearchBenchmark {
+
+    private static final SearchEvent[] SEARCHES = {PersonTable.search("sa"), PersonTable.search("os")};
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    @Param({"filter", "textIndex"})
+    public String matching;
+
+    private LocalListDataStore<Person> store;
+    private List<Person> page;
+    private int turn = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        store = new LocalListDataStore<>(new ArrayList<>(Person.generate(size, 42)))
+                .setSearchCacheSize(0)
+                .setPagination(new BenchmarkPagination(25));
+        if ("filter".equals(matching)) {
+            store.setSearchFilter(PersonTable.SEARCH_FILTER);
+        } else {
+            store.setSearchTextProvider(PersonTable.SEARCH_TEXT);
+        }
+        store.onDataChanged(event -> page = event.getNewData());
+        store.load();
+    }
+
+    @Benchmark
+    public List<Person> search() {
+        store.handleEvent(SEARCHES[turn++ & 1]);
+        return page;
+    }
+}
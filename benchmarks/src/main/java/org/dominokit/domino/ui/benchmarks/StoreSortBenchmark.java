@@ -0,0 +1,60 @@
+package org.dominokit.domino.ui.benchmarks;
+
+import org.dominokit.domino.ui.datatable.events.SortEvent;
+import org.dominokit.domino.ui.datatable.plugins.SortDirection;
+import org.dominokit.domino.ui.datatable.store.LocalListDataStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sorts a paginated {@link LocalListDataStore} and returns the first page. The records are sorted by name and by age
+ * in turn, the order of one column is unrelated to the other so every invocation sorts unordered records.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StoreSortBenchmark {
+
+    private static final List<SortEvent<Person>> SORTS = new ArrayList<>();
+
+    static {
+        SORTS.add(new SortEvent<>(SortDirection.ASC, PersonTable.NAME));
+        SORTS.add(new SortEvent<>(SortDirection.ASC, PersonTable.AGE));
+    }
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    @Param({"comparator", "values", "indexed"})
+    public String sorting;
+
+    private LocalListDataStore<Person> store;
+    private List<Person> page;
+    private int turn = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        store = new LocalListDataStore<>(new ArrayList<>(Person.generate(size, 42)))
+                .setPagination(new BenchmarkPagination(25));
+        if ("comparator".equals(sorting)) {
+            store.setRecordsSorter(PersonTable.SORTER);
+        } else {
+            store.setSortValueProvider(PersonTable.SORT_VALUES)
+                    .setSortIndexed("indexed".equals(sorting));
+        }
+        store.onDataChanged(event -> page = event.getNewData());
+        store.load();
+    }
+
+    @Benchmark
+    public List<Person> sort() {
+        store.handleEvent(SORTS.get(turn++ & 1));
+        return page;
+    }
+}
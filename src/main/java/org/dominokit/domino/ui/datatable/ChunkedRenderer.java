@@ -0,0 +1,108 @@
+package org.dominokit.domino.ui.datatable;
+
+import com.google.gwt.animation.client.AnimationScheduler;
+import elemental2.dom.DocumentFragment;
+import elemental2.dom.DomGlobal;
+import org.dominokit.domino.ui.datatable.events.RenderCompletedEvent;
+import org.dominokit.domino.ui.datatable.events.RenderProgressEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class ChunkedRenderer<T> {
+
+    private final DataTable<T> dataTable;
+    private final TableConfig<T> tableConfig;
+    private final List<T> pending = new ArrayList<>();
+    private final List<Runnable> completionCallbacks = new ArrayList<>();
+    private int cursor = 0;
+    private int startIndex = 0;
+    private int generation = 0;
+    private boolean scheduled = false;
+
+    ChunkedRenderer(DataTable<T> dataTable) {
+        this.dataTable = dataTable;
+        this.tableConfig = dataTable.getTableConfig();
+    }
+
+    void render(List<T> records, int initialIndex) {
+        if (records.isEmpty()) {
+            if (!isRendering()) {
+                dataTable.fireTableEvent(new RenderCompletedEvent(initialIndex));
+            }
+            return;
+        }
+        if (isRendering()) {
+            pending.addAll(records);
+            return;
+        }
+        pending.clear();
+        pending.addAll(records);
+        cursor = 0;
+        startIndex = initialIndex;
+        renderChunk();
+    }
+
+    void cancel() {
+        generation++;
+        scheduled = false;
+        pending.clear();
+        completionCallbacks.clear();
+        cursor = 0;
+    }
+
+    /**
+     * Runs the callback once the rows being rendered are all attached, before the {@link RenderCompletedEvent} is
+     * fired. Callbacks of a cancelled render are dropped.
+     */
+    void onCompleted(Runnable callback) {
+        completionCallbacks.add(callback);
+    }
+
+    boolean isRendering() {
+        return cursor < pending.size();
+    }
+
+    private void renderChunk() {
+        double start = DomGlobal.performance.now();
+        DocumentFragment fragment = DomGlobal.document.createDocumentFragment();
+        List<TableRow<T>> rows = new ArrayList<>();
+        do {
+            TableRow<T> tableRow = new TableRow<>(pending.get(cursor), startIndex + cursor);
+            tableConfig.drawCells(dataTable, tableRow);
+            fragment.appendChild(tableRow.asElement());
+            rows.add(tableRow);
+            cursor++;
+        } while (cursor < pending.size() && DomGlobal.performance.now() - start < tableConfig.getRenderChunkBudget());
+        dataTable.attachRows(fragment, rows);
+
+        if (isRendering()) {
+            dataTable.fireTableEvent(new RenderProgressEvent(startIndex + cursor, startIndex + pending.size()));
+            scheduleNextChunk();
+        } else {
+            int renderedCount = startIndex + cursor;
+            pending.clear();
+            cursor = 0;
+            List<Runnable> callbacks = new ArrayList<>(completionCallbacks);
+            completionCallbacks.clear();
+            callbacks.forEach(Runnable::run);
+            dataTable.fireTableEvent(new RenderCompletedEvent(renderedCount));
+        }
+    }
+
+    private void scheduleNextChunk() {
+        if (scheduled) {
+            return;
+        }
+        scheduled = true;
+        int scheduledGeneration = generation;
+        AnimationScheduler.get().requestAnimationFrame(timestamp -> {
+            if (scheduledGeneration == generation) {
+                scheduled = false;
+                if (isRendering()) {
+                    renderChunk();
+                }
+            }
+        });
+    }
+}
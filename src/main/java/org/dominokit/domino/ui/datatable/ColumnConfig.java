@@ -27,6 +27,10 @@ public class ColumnConfig<T> {
     private String width;
     private boolean fixed = false;
     private Node tooltipNode;
+    private ValueExtractor<T> valueExtractor;
+    private ValueExtractor<T> exportValue;
+    private boolean patchText = false;
+    private boolean pinned = false;
 
     public static <T> ColumnConfig<T> create(String name) {
         return new ColumnConfig<>(name);
@@ -116,6 +120,20 @@ public class ColumnConfig<T> {
         return this;
     }
 
+    public boolean isPinned() {
+        return pinned;
+    }
+
+    /**
+     * @param pinned true to keep the column rendered when the table renders only the columns in view, pinned columns
+     *               are expected at the start of the table
+     * @return same ColumnConfig instance
+     */
+    public ColumnConfig<T> setPinned(boolean pinned) {
+        this.pinned = pinned;
+        return this;
+    }
+
     public ColumnConfig<T> setTitle(String title) {
         this.title = title;
         return this;
@@ -180,6 +198,55 @@ public class ColumnConfig<T> {
         return this;
     }
 
+    public ValueExtractor<T> getValueExtractor() {
+        return valueExtractor;
+    }
+
+    /**
+     * Memoizes the cells of the column, a cell is rendered again only when the value extracted from its record is
+     * different from the value it was last rendered with. The extractor should be cheap and return values with a
+     * meaningful equals.
+     *
+     * @param valueExtractor extracts the value the cell content depends on from the record
+     * @return same ColumnConfig instance
+     */
+    public ColumnConfig<T> setValueExtractor(ValueExtractor<T> valueExtractor) {
+        this.valueExtractor = valueExtractor;
+        return this;
+    }
+
+    public boolean isMemoized() {
+        return nonNull(valueExtractor);
+    }
+
+    public ValueExtractor<T> getExportValue() {
+        return exportValue;
+    }
+
+    /**
+     * Makes the column exportable, independently from the value extractor that memoizes the cells.
+     *
+     * @param exportValue extracts the value exported for the column from the record
+     * @return same ColumnConfig instance
+     */
+    public ColumnConfig<T> setExportValue(ValueExtractor<T> exportValue) {
+        this.exportValue = exportValue;
+        return this;
+    }
+
+    public boolean isPatchText() {
+        return patchText;
+    }
+
+    /**
+     * @param patchText when true and the cell renderer returns a text node, the text of the cell is updated in place
+     *                  instead of replacing the cell content
+     * @return same ColumnConfig instance
+     */
+    public ColumnConfig<T> setPatchText(boolean patchText) {
+        this.patchText = patchText;
+        return this;
+    }
 
     void applyHeaderStyle() {
         headerStyler.styleCell(headElement);
@@ -194,4 +261,9 @@ public class ColumnConfig<T> {
         void styleCell(HTMLTableCellElement element);
     }
 
+    @FunctionalInterface
+    public interface ValueExtractor<T> {
+        Object extract(T record);
+    }
+
 }
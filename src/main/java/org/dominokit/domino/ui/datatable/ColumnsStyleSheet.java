@@ -0,0 +1,130 @@
+package org.dominokit.domino.ui.datatable;
+
+import elemental2.dom.CSSStyleDeclaration;
+import elemental2.dom.DomGlobal;
+import elemental2.dom.HTMLStyleElement;
+import elemental2.dom.HTMLTableCellElement;
+import jsinterop.base.Js;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Objects.nonNull;
+import static org.jboss.gwt.elemento.core.Elements.td;
+
+/**
+ * Holds one generated css class per column of a data table, the widths, alignment and cell styles of the columns are
+ * written once as rules of a style element owned by the table instead of inline styles on every cell.
+ */
+class ColumnsStyleSheet<T> {
+
+    private static int tablesCount = 0;
+
+    private final String tableCssClass = "data-table-" + (++tablesCount);
+    private final HTMLStyleElement styleElement = Js.uncheckedCast(DomGlobal.document.createElement("style"));
+    private final Map<ColumnConfig<T>, String> columnsClasses = new HashMap<>();
+    private final Map<ColumnConfig<T>, String> cellsClasses = new HashMap<>();
+    private final Set<ColumnConfig<T>> styledColumns = new HashSet<>();
+    private final StringBuilder rules = new StringBuilder();
+
+    ColumnsStyleSheet(DataTable<T> dataTable) {
+        dataTable.asElement().classList.add(tableCssClass);
+        dataTable.asElement().appendChild(styleElement);
+    }
+
+    String columnCssClass(ColumnConfig<T> column) {
+        return columnsClasses.computeIfAbsent(column, c -> tableCssClass + "-col-" + columnsClasses.size());
+    }
+
+    /**
+     * @return the classes of the body cells of the column, the column class followed by the compiled cell style classes
+     */
+    String cellCssClass(ColumnConfig<T> column) {
+        String cellClasses = cellsClasses.get(column);
+        return nonNull(cellClasses) ? cellClasses : columnCssClass(column);
+    }
+
+    /**
+     * @return true if the cell styler of the column could not be compiled and has to be applied to every cell
+     */
+    boolean isStyledPerCell(ColumnConfig<T> column) {
+        return styledColumns.contains(column);
+    }
+
+    void compileColumn(ColumnConfig<T> column, String fixedWidth) {
+        StringBuilder declarations = new StringBuilder();
+        if (nonNull(fixedWidth)) {
+            declarations.append(" width: ").append(fixedWidth).append(";")
+                    .append(" min-width: ").append(fixedWidth).append(";")
+                    .append(" max-width: ").append(fixedWidth).append(";")
+                    .append(" overflow: hidden;")
+                    .append(" text-overflow: ellipsis;")
+                    .append(" white-space: nowrap;");
+        }
+        if (nonNull(column.getMinWidth())) {
+            declarations.append(" min-width: ").append(column.getMinWidth()).append(";");
+        }
+        if (nonNull(column.getMaxWidth())) {
+            declarations.append(" max-width: ").append(column.getMaxWidth()).append(";");
+        }
+        if (nonNull(column.getTextAlign())) {
+            declarations.append(" text-align: ").append(column.getTextAlign()).append(";");
+        }
+        addRule(columnCssClass(column), declarations.toString());
+        compileCellStyle(column);
+    }
+
+    private void compileCellStyle(ColumnConfig<T> column) {
+        HTMLTableCellElement probe = td().asElement();
+        column.applyCellStyle(probe);
+        String style = important(probe.style);
+        String classes = probe.className;
+        probe.removeAttribute("style");
+        probe.removeAttribute("class");
+
+        // a styler that does more than setting styles and classes must still run on every cell
+        if (probe.hasAttributes() || probe.hasChildNodes()) {
+            styledColumns.add(column);
+            return;
+        }
+
+        String cellClasses = columnCssClass(column);
+        if (!style.isEmpty()) {
+            String cellCssClass = columnCssClass(column) + "-cell";
+            addRule(cellCssClass, style);
+            cellClasses += " " + cellCssClass;
+        }
+        if (nonNull(classes) && !classes.trim().isEmpty()) {
+            cellClasses += " " + classes.trim();
+        }
+        cellsClasses.put(column, cellClasses);
+    }
+
+    // inline styles used to override any rule of the page, the compiled ones keep that precedence. The declarations
+    // are read from the parsed style so values holding a ';' such as data urls stay whole
+    private String important(CSSStyleDeclaration style) {
+        StringBuilder declarations = new StringBuilder();
+        for (int i = 0; i < style.length; i++) {
+            String property = style.item(i);
+            declarations.append(" ").append(property).append(": ").append(style.getPropertyValue(property))
+                    .append(" !important;");
+        }
+        return declarations.toString();
+    }
+
+    private void addRule(String cssClass, String declarations) {
+        if (!declarations.isEmpty()) {
+            rules.append(".").append(cssClass).append(" {").append(declarations).append(" }\n");
+        }
+    }
+
+    void apply() {
+        styleElement.textContent = rules.toString();
+    }
+
+    String getTableCssClass() {
+        return tableCssClass;
+    }
+}
@@ -1,10 +1,20 @@
 package org.dominokit.domino.ui.datatable;
 
+import elemental2.dom.DocumentFragment;
+import elemental2.dom.DomGlobal;
+import elemental2.dom.Element;
 import elemental2.dom.HTMLDivElement;
 import elemental2.dom.HTMLTableElement;
+import elemental2.dom.HTMLTableRowElement;
 import elemental2.dom.HTMLTableSectionElement;
+import elemental2.dom.Node;
+import jsinterop.base.Js;
+import org.dominokit.domino.ui.datatable.events.RenderedColumnsChangedEvent;
+import org.dominokit.domino.ui.datatable.events.RowsFilteredEvent;
 import org.dominokit.domino.ui.datatable.events.TableDataUpdatedEvent;
 import org.dominokit.domino.ui.datatable.events.TableEvent;
+import org.dominokit.domino.ui.datatable.events.TableEventBus;
+import org.dominokit.domino.ui.datatable.events.TableEventHandler;
 import org.dominokit.domino.ui.datatable.events.TableEventListener;
 import org.dominokit.domino.ui.datatable.store.DataStore;
 import org.dominokit.domino.ui.style.Style;
@@ -14,14 +24,14 @@ import org.dominokit.domino.ui.utils.HasSelectionSupport;
 import org.jboss.gwt.elemento.core.IsElement;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.jboss.gwt.elemento.core.Elements.*;
 
 public class DataTable<T> extends DominoElement<DataTable<T>> implements IsElement<HTMLDivElement>, HasSelectionSupport<TableRow<T>> {
 
-    public static final String ANY = "*";
+    public static final String ANY = TableEventBus.ANY;
     private final DataStore<T> dataStore;
     private HTMLDivElement element = div().css("table-responsive").asElement();
     private HTMLTableElement tableElement = table().css("table", "table-hover", "table-striped").asElement();
@@ -31,6 +41,12 @@ public class DataTable<T> extends DominoElement<DataTable<T>> implements IsEleme
     private List<T> data = new ArrayList<>();
     private boolean selectable = true;
     private List<TableRow<T>> tableRows = new ArrayList<>();
+    private VirtualRows<T> virtualRows;
+    private ChunkedRenderer<T> chunkedRenderer;
+    private HTMLTableRowElement topPlaceholder;
+    private double topPlaceholderHeight = 0;
+    private int windowOffset = 0;
+    private final SelectionModel<T> selectionModel = new SelectionModel<>(this);
 
     private List<SelectionChangeListener<T>> selectionChangeListeners = new ArrayList<>();
     private boolean condensed = false;
@@ -38,20 +54,29 @@ public class DataTable<T> extends DominoElement<DataTable<T>> implements IsEleme
     private boolean striped = true;
     private boolean bordered = false;
 
-    private Map<String, List<TableEventListener>> events = new HashMap<>();
+    private final TableEventBus eventBus = new TableEventBus();
 
     public DataTable(TableConfig<T> tableConfig, DataStore<T> dataStore) {
         this.tableConfig = tableConfig;
-        this.events.put(ANY, new ArrayList<>());
         this.dataStore = dataStore;
-        this.addTableEventListner(ANY, dataStore);
+        this.dataStore.registerListeners(eventBus);
         this.dataStore.onDataChanged(dataChangedEvent -> {
             if (dataChangedEvent.isAppend()) {
                 appendData(dataChangedEvent.getNewData());
+                evictRows(dataChangedEvent.getEvictedCount(), true);
+            } else if (dataChangedEvent.isPrepend()) {
+                prependData(dataChangedEvent.getNewData(), dataChangedEvent.getWindowOffset());
+                evictRows(dataChangedEvent.getEvictedCount(), false);
             } else {
                 setData(dataChangedEvent.getNewData());
             }
-            fireTableEvent(new TableDataUpdatedEvent<>(this.data, dataChangedEvent.getTotalCount()));
+            TableDataUpdatedEvent<T> dataUpdatedEvent = new TableDataUpdatedEvent<>(this.data, dataChangedEvent.getTotalCount());
+            if (nonNull(chunkedRenderer) && chunkedRenderer.isRendering()) {
+                // plugins reading the rows on data updates must see all of them, not the first chunk
+                chunkedRenderer.onCompleted(() -> fireTableEvent(dataUpdatedEvent));
+            } else {
+                fireTableEvent(dataUpdatedEvent);
+            }
         });
 
         init();
@@ -59,12 +84,18 @@ public class DataTable<T> extends DominoElement<DataTable<T>> implements IsEleme
 
     private DataTable<T> init() {
         tableConfig.getPlugins().forEach(plugin -> {
-            DataTable.this.addTableEventListner("*", plugin);
+            plugin.registerListeners(DataTable.this);
             plugin.onBeforeAddTable(DataTable.this);
         });
         tableConfig.onBeforeHeaders(this);
         tableConfig.drawHeaders(this, thead);
         tableElement.appendChild(tbody);
+        if (tableConfig.isVirtualScrolling()) {
+            virtualRows = new VirtualRows<>(this);
+        } else if (tableConfig.isChunkedRendering()) {
+            chunkedRenderer = new ChunkedRenderer<>(this);
+        }
+        eventBus.addHandler(RenderedColumnsChangedEvent.class, event -> setColspan(event.getRenderedColumnsCount()));
         tableConfig.getPlugins().forEach(plugin -> plugin.onBodyAdded(DataTable.this));
         element.appendChild(tableElement);
         tableConfig.getPlugins().forEach(plugin -> plugin.onAfterAddTable(DataTable.this));
@@ -92,9 +123,31 @@ public class DataTable<T> extends DominoElement<DataTable<T>> implements IsEleme
 
     public void setData(List<T> data) {
         this.data = data;
+        this.windowOffset = 0;
+        setTopPlaceholderHeight(0);
+        if (isNull(tableConfig.getRecordKeyProvider())) {
+            selectionModel.clear();
+        }
+        selectionModel.onDataChanged();
+        if (nonNull(chunkedRenderer)) {
+            chunkedRenderer.cancel();
+        }
+        if (nonNull(virtualRows)) {
+            tbody.scrollTop = 0.0;
+            virtualRows.reset(nonNull(data) ? data : new ArrayList<>());
+            return;
+        }
+        if (nonNull(tableConfig.getRecordKeyProvider()) && nonNull(data) && !tableRows.isEmpty()) {
+            updateRows(data);
+            tbody.scrollTop = 0.0;
+            return;
+        }
         tableRows.clear();
+        selectionModel.clearRows();
         ElementUtil.clear(tbody);
-        if (nonNull(data) && !data.isEmpty()) {
+        if (nonNull(chunkedRenderer)) {
+            chunkedRenderer.render(nonNull(data) ? data : new ArrayList<>(), 0);
+        } else if (nonNull(data) && !data.isEmpty()) {
             addRows(data, 0);
         }
 
@@ -102,20 +155,206 @@ public class DataTable<T> extends DominoElement<DataTable<T>> implements IsEleme
     }
 
     public void appendData(List<T> newData) {
-        if (nonNull(this.data)) {
-            addRows(newData, this.data.size());
+        if (nonNull(this.data) && nonNull(virtualRows)) {
             this.data.addAll(newData);
+            selectionModel.onDataChanged();
+            virtualRows.render();
+        } else if (nonNull(this.data)) {
+            addRows(newData, windowOffset + this.data.size());
+            this.data.addAll(newData);
+            selectionModel.onDataChanged();
         } else {
             setData(newData);
         }
     }
 
+    private void prependData(List<T> newData, int windowOffset) {
+        this.windowOffset = windowOffset;
+        if (nonNull(virtualRows)) {
+            data.addAll(0, newData);
+            selectionModel.onDataChanged();
+            virtualRows.shift(newData.size());
+            return;
+        }
+        HTMLTableRowElement firstRow = tableRows.isEmpty() ? null : tableRows.get(0).asElement();
+        DocumentFragment fragment = DomGlobal.document.createDocumentFragment();
+        List<TableRow<T>> addedRows = new ArrayList<>();
+        for (int index = 0; index < newData.size(); index++) {
+            TableRow<T> tableRow = new TableRow<>(newData.get(index), windowOffset + index);
+            tableConfig.drawCells(this, tableRow);
+            fragment.appendChild(tableRow.asElement());
+            addedRows.add(tableRow);
+        }
+        tbody.insertBefore(fragment, firstRow);
+        tableRows.addAll(0, addedRows);
+        data.addAll(0, newData);
+        selectionModel.onDataChanged();
+        addedRows.forEach(tableRow -> tableConfig.onRowAdded(this, tableRow));
+
+        if (!addedRows.isEmpty() && nonNull(firstRow)) {
+            double insertedHeight = firstRow.offsetTop - addedRows.get(0).asElement().offsetTop;
+            setTopPlaceholderHeight(Math.max(0, topPlaceholderHeight - insertedHeight));
+        }
+    }
+
+    private void evictRows(int count, boolean fromTop) {
+        if (nonNull(virtualRows)) {
+            evictRecords(count, fromTop);
+            return;
+        }
+        int evictedCount = Math.min(count, tableRows.size());
+        if (evictedCount <= 0) {
+            return;
+        }
+        List<TableRow<T>> evictedRows;
+        if (fromTop) {
+            evictedRows = new ArrayList<>(tableRows.subList(0, evictedCount));
+            double evictedHeight;
+            if (evictedCount < tableRows.size()) {
+                evictedHeight = tableRows.get(evictedCount).asElement().offsetTop - evictedRows.get(0).asElement().offsetTop;
+            } else {
+                evictedHeight = evictedRows.stream().mapToDouble(tableRow -> tableRow.asElement().offsetHeight).sum();
+            }
+            tableRows.subList(0, evictedCount).clear();
+            data.subList(0, Math.min(evictedCount, data.size())).clear();
+            windowOffset += evictedCount;
+            setTopPlaceholderHeight(topPlaceholderHeight + evictedHeight);
+        } else {
+            evictedRows = new ArrayList<>(tableRows.subList(tableRows.size() - evictedCount, tableRows.size()));
+            tableRows.subList(tableRows.size() - evictedCount, tableRows.size()).clear();
+            data.subList(Math.max(0, data.size() - evictedCount), data.size()).clear();
+        }
+        selectionModel.onDataChanged();
+        evictedRows.forEach(tableRow -> {
+            tableConfig.onRowRemoved(this, tableRow);
+            tableRow.asElement().remove();
+        });
+    }
+
+    /**
+     * Virtual rows render only the rows in view, the evicted records are removed from the data and the virtual rows
+     * are shifted instead of removing rows and keeping their height in the top placeholder.
+     */
+    private void evictRecords(int count, boolean fromTop) {
+        int evictedCount = Math.min(count, data.size());
+        if (evictedCount <= 0) {
+            return;
+        }
+        if (fromTop) {
+            data.subList(0, evictedCount).clear();
+            windowOffset += evictedCount;
+            selectionModel.onDataChanged();
+            virtualRows.shift(-evictedCount);
+        } else {
+            data.subList(data.size() - evictedCount, data.size()).clear();
+            virtualRows.shift(0);
+        }
+        selectionModel.onDataChanged();
+    }
+
+    private void setTopPlaceholderHeight(double height) {
+        this.topPlaceholderHeight = height;
+        if (height > 0) {
+            if (isNull(topPlaceholder)) {
+                topPlaceholder = tr().css("table-spacer")
+                        .add(td().attr("colspan", tableConfig.getRenderedColumnsCount() + ""))
+                        .asElement();
+            }
+            Style.of(topPlaceholder).setHeight(height + "px");
+            if (topPlaceholder.parentNode != tbody) {
+                tbody.insertBefore(topPlaceholder, tbody.firstChild);
+            }
+        } else if (nonNull(topPlaceholder)) {
+            topPlaceholder.remove();
+        }
+    }
+
+    private void setColspan(int colspan) {
+        if (nonNull(topPlaceholder)) {
+            Js.<Element>uncheckedCast(topPlaceholder.firstChild).setAttribute("colspan", colspan + "");
+        }
+        if (nonNull(virtualRows)) {
+            virtualRows.setColspan(colspan);
+        }
+    }
+
+    /**
+     * @return the height of the rows evicted from the top of the table body by a store that keeps a sliding window of
+     * records, the height is kept by an empty row so the scroll position does not jump
+     */
+    public double getTopPlaceholderHeight() {
+        return topPlaceholderHeight;
+    }
+
+    private void updateRows(List<T> data) {
+        RecordKeyProvider<T> keyProvider = tableConfig.getRecordKeyProvider();
+        Map<Object, TableRow<T>> currentRows = new HashMap<>();
+        tableRows.forEach(tableRow -> currentRows.put(keyProvider.getKey(tableRow.getRecord()), tableRow));
+
+        List<TableRow<T>> reusedRows = new ArrayList<>();
+        for (T record : data) {
+            reusedRows.add(currentRows.remove(keyProvider.getKey(record)));
+        }
+
+        currentRows.values().forEach(tableRow -> {
+            tableConfig.onRowRemoved(this, tableRow);
+            tableRow.asElement().remove();
+        });
+
+        Set<Node> reusedElements = new HashSet<>();
+        reusedRows.stream().filter(Objects::nonNull).forEach(tableRow -> reusedElements.add(tableRow.asElement()));
+
+        tableRows.clear();
+        Node cursor = nextReusedElement(tbody.firstChild, reusedElements);
+        for (int index = 0; index < data.size(); index++) {
+            T record = data.get(index);
+            TableRow<T> tableRow = reusedRows.get(index);
+            if (isNull(tableRow)) {
+                tableRow = new TableRow<>(record, index);
+                tableConfig.drawCells(this, tableRow);
+                tbody.insertBefore(tableRow.asElement(), cursor);
+                tableConfig.onRowAdded(this, tableRow);
+            } else {
+                if (tableRow.asElement() == cursor) {
+                    cursor = nextReusedElement(cursor.nextSibling, reusedElements);
+                } else {
+                    tbody.insertBefore(tableRow.asElement(), cursor);
+                }
+                tableRow.update(record, index);
+                selectionModel.refresh(record);
+            }
+            tableRows.add(tableRow);
+        }
+    }
+
+    private Node nextReusedElement(Node node, Set<Node> reusedElements) {
+        Node next = node;
+        while (nonNull(next) && !reusedElements.contains(next)) {
+            next = next.nextSibling;
+        }
+        return next;
+    }
+
     private void addRows(List<T> data, int initialIndex) {
+        if (nonNull(chunkedRenderer)) {
+            chunkedRenderer.render(data, initialIndex);
+            return;
+        }
+        DocumentFragment fragment = DomGlobal.document.createDocumentFragment();
+        List<TableRow<T>> addedRows = new ArrayList<>();
         for (int index = 0; index < data.size(); index++) {
             TableRow<T> tableRow = new TableRow<>(data.get(index), initialIndex + index);
-            tableConfig.drawRecord(DataTable.this, tableRow);
-            tableRows.add(tableRow);
+            tableConfig.drawCells(DataTable.this, tableRow);
+            fragment.appendChild(tableRow.asElement());
+            addedRows.add(tableRow);
         }
+        attachRows(fragment, addedRows);
+    }
+
+    void attachRows(DocumentFragment fragment, List<TableRow<T>> addedRows) {
+        tbody.appendChild(fragment);
+        tableRows.addAll(addedRows);
+        addedRows.forEach(tableRow -> tableConfig.onRowAdded(DataTable.this, tableRow));
     }
 
     public Collection<T> getData() {
@@ -206,28 +445,69 @@ public class DataTable<T> extends DominoElement<DataTable<T>> implements IsEleme
         return bordered;
     }
 
+    /**
+     * Hides the rows rejected by the filter. The visibility of all the rows is computed first, then only the rows which
+     * visibility changed are updated, hidden selected rows are deselected and a single {@link RowsFilteredEvent} is
+     * fired. With virtual scrolling all the records are filtered and the hidden ones are not rendered.
+     *
+     * @param rowFilter returns true for the rows to show
+     */
     public void filterRows(LocalRowFilter<T> rowFilter) {
-        tableRows.forEach(tableRow -> {
-            if (rowFilter.filter(tableRow)) {
-                Style.of(tableRow.asElement()).removeProperty("display");
-                tableRow.removeFlag("data-table-row-filtered");
-                tableRow.fireUpdate();
-            } else {
-                Style.of(tableRow.asElement()).setDisplay("none");
-                tableRow.setFlag("data-table-row-filtered", "true");
+        if (nonNull(virtualRows)) {
+            filterVirtualRows(rowFilter);
+            return;
+        }
+        int size = tableRows.size();
+        boolean[] visible = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            visible[i] = isNull(rowFilter) || rowFilter.filter(tableRows.get(i));
+        }
+
+        int visibleCount = 0;
+        List<TableRow<T>> changedRows = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            TableRow<T> tableRow = tableRows.get(i);
+            if (visible[i]) {
+                visibleCount++;
+            }
+            if (tableRow.isFiltered() == visible[i]) {
+                tableRow.setFiltered(!visible[i]);
+                changedRows.add(tableRow);
+            }
+        }
+
+        boolean selectionChanged = false;
+        for (TableRow<T> tableRow : changedRows) {
+            if (tableRow.isFiltered() && tableRow.isSelected()) {
                 tableRow.deselect();
-                tableRow.fireUpdate();
+                selectionChanged = true;
             }
-        });
+            tableRow.fireUpdate();
+        }
+        if (selectionChanged) {
+            onSelectionChange(null);
+        }
+        fireTableEvent(new RowsFilteredEvent(visibleCount, size - visibleCount, changedRows.size()));
+    }
+
+    private void filterVirtualRows(LocalRowFilter<T> rowFilter) {
+        int changedCount = virtualRows.filter(rowFilter);
+        BitSet filteredIndexes = virtualRows.getFilteredIndexes();
+        boolean selectionChanged = false;
+        for (int index = filteredIndexes.nextSetBit(0); index >= 0; index = filteredIndexes.nextSetBit(index + 1)) {
+            if (selectionModel.isSelected(index, data.get(index))) {
+                selectionModel.deselect(index, data.get(index));
+                selectionChanged = true;
+            }
+        }
+        if (selectionChanged) {
+            onSelectionChange(null);
+        }
+        fireTableEvent(new RowsFilteredEvent(virtualRows.getVisibleCount(), filteredIndexes.cardinality(), changedCount));
     }
 
     public void clearRowFilters() {
-        tableRows.stream().filter(tableRow -> nonNull(tableRow.getFlag("data-table-row-filtered")))
-                .forEach(tableRow -> {
-                    Style.of(tableRow.asElement()).removeProperty("display");
-                    tableRow.removeFlag("data-table-row-filtered");
-                    tableRow.fireUpdate();
-                });
+        filterRows(null);
     }
 
     @Override
@@ -237,11 +517,23 @@ public class DataTable<T> extends DominoElement<DataTable<T>> implements IsEleme
 
     @Override
     public List<TableRow<T>> getSelectedItems() {
-        return tableRows.stream().filter(TableRow::isSelected).collect(Collectors.toList());
+        return selectionModel.getSelectedRows();
     }
 
     public List<T> getSelectedRecords() {
-        return getSelectedItems().stream().map(TableRow::getRecord).collect(Collectors.toList());
+        return selectionModel.getSelectedRecords();
+    }
+
+    public SelectionModel<T> getSelectionModel() {
+        return selectionModel;
+    }
+
+    List<T> dataList() {
+        return nonNull(data) ? data : Collections.emptyList();
+    }
+
+    int windowOffset() {
+        return windowOffset;
     }
 
     @Override
@@ -251,23 +543,59 @@ public class DataTable<T> extends DominoElement<DataTable<T>> implements IsEleme
 
     @Override
     public void onSelectionChange(TableRow<T> source) {
-        selectionChangeListeners.forEach(selectionChangeListener -> selectionChangeListener.onSelectionChanged(getSelectedItems(), getSelectedRecords()));
+        if (selectionChangeListeners.isEmpty()) {
+            return;
+        }
+        List<TableRow<T>> selectedItems = getSelectedItems();
+        List<T> selectedRecords = getSelectedRecords();
+        selectionChangeListeners.forEach(selectionChangeListener -> selectionChangeListener.onSelectionChanged(selectedItems, selectedRecords));
     }
 
     @Override
     public void selectAll() {
-        if (tableConfig.isMultiSelect() && !tableRows.isEmpty()) {
-            tableRows.forEach(TableRow::select);
-            onSelectionChange(tableRows.get(0));
+        if (tableConfig.isMultiSelect() && !dataList().isEmpty()) {
+            selectionModel.selectAll();
+            if (nonNull(virtualRows)) {
+                BitSet filteredIndexes = virtualRows.getFilteredIndexes();
+                for (int index = filteredIndexes.nextSetBit(0); index >= 0; index = filteredIndexes.nextSetBit(index + 1)) {
+                    selectionModel.deselect(index, data.get(index));
+                }
+            }
+            selectionModel.bulkUpdate(() -> tableRows.forEach(tableRow -> {
+                if (tableRow.isFiltered()) {
+                    selectionModel.deselect(tableRow.getIndex(), tableRow.getRecord());
+                } else if (!tableRow.isSelected()) {
+                    tableRow.select();
+                }
+            }));
+            onSelectionChange(null);
+        }
+    }
+
+    /**
+     * Selects the records between the two row indexes inclusive, with a single selection change notification.
+     *
+     * @param fromIndex the index of the first row of the range
+     * @param toIndex   the index of the last row of the range
+     */
+    public void selectRange(int fromIndex, int toIndex) {
+        if (tableConfig.isMultiSelect()) {
+            selectionModel.selectRange(fromIndex, toIndex);
+            int from = Math.min(fromIndex, toIndex);
+            int to = Math.max(fromIndex, toIndex);
+            selectionModel.bulkUpdate(() -> tableRows.stream()
+                    .filter(tableRow -> tableRow.getIndex() >= from && tableRow.getIndex() <= to && !tableRow.isSelected())
+                    .forEach(TableRow::select));
+            onSelectionChange(null);
         }
     }
 
     @Override
     public void deselectAll() {
-        if (!tableRows.isEmpty()) {
-            tableRows.stream().filter(TableRow::isSelected).forEach(TableRow::deselect);
-            onSelectionChange(tableRows.get(0));
-        }
+        List<TableRow<T>> selectedRows = selectionModel.getSelectedRows();
+        selectionModel.clear();
+        selectionModel.bulkUpdate(() -> selectedRows.forEach(TableRow::deselect));
+        onSelectionChange(null);
     }
 
     @Override
@@ -284,24 +612,29 @@ public class DataTable<T> extends DominoElement<DataTable<T>> implements IsEleme
     }
 
     public void addTableEventListner(String type, TableEventListener listener) {
-        if (!events.containsKey(type)) {
-            events.put(type, new ArrayList<>());
-        }
-        events.get(type).add(listener);
+        eventBus.addListener(type, listener);
     }
 
     public void removeTableListener(String type, TableEventListener listener) {
-        if (events.containsKey(type)) {
-            events.get(type).remove(listener);
-        }
+        eventBus.removeListener(type, listener);
+    }
+
+    public <E extends TableEvent> DataTable<T> addTableEventHandler(Class<E> eventClass, TableEventHandler<E> handler) {
+        eventBus.addHandler(eventClass, handler);
+        return this;
+    }
+
+    public <E extends TableEvent> DataTable<T> removeTableEventHandler(Class<E> eventClass, TableEventHandler<E> handler) {
+        eventBus.removeHandler(eventClass, handler);
+        return this;
     }
 
     public void fireTableEvent(TableEvent tableEvent) {
-        if (events.containsKey(tableEvent.getType())) {
-            events.get(tableEvent.getType()).forEach(listener -> listener.handleEvent(tableEvent));
-        }
+        eventBus.fire(tableEvent);
+    }
 
-        events.get(ANY).forEach(listener -> listener.handleEvent(tableEvent));
+    public TableEventBus getEventBus() {
+        return eventBus;
     }
 
     @FunctionalInterface
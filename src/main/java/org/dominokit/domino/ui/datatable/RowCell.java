@@ -1,9 +1,10 @@
 package org.dominokit.domino.ui.datatable;
 
 import elemental2.dom.HTMLTableCellElement;
-import org.dominokit.domino.ui.style.Style;
+import elemental2.dom.Node;
 import org.dominokit.domino.ui.utils.ElementUtil;
-import org.jboss.gwt.elemento.core.IsElement;
+
+import java.util.Objects;
 
 import static java.util.Objects.nonNull;
 
@@ -11,6 +12,8 @@ public class RowCell<T> {
 
     private final ColumnConfig<T> columnConfig;
     private final CellRenderer.CellInfo<T> cellInfo;
+    private Object renderedValue;
+    private boolean rendered = false;
 
 
     public RowCell(CellRenderer.CellInfo<T> cellInfo, ColumnConfig<T> columnConfig) {
@@ -22,24 +25,50 @@ public class RowCell<T> {
         return columnConfig;
     }
 
+    public CellRenderer.CellInfo<T> getCellInfo() {
+        return cellInfo;
+    }
+
     public void updateCell() {
-        ElementUtil.clear(cellInfo.getElement());
-        Style<HTMLTableCellElement, IsElement<HTMLTableCellElement>> style = Style.of(cellInfo.getElement());
-        if (nonNull(columnConfig.getMinWidth())) {
-            style.setMinWidth(columnConfig.getMinWidth());
-            Style.of(columnConfig.getHeadElement()).setMinWidth(columnConfig.getMinWidth());
+        if (columnConfig.isMemoized()) {
+            Object value = columnConfig.getValueExtractor().extract(cellInfo.getRecord());
+            if (rendered && Objects.equals(value, renderedValue)) {
+                return;
+            }
+            renderedValue = value;
         }
+        rendered = true;
 
-        if (nonNull(columnConfig.getMaxWidth())) {
-            style.setMaxWidth(columnConfig.getMaxWidth());
-            Style.of(columnConfig.getHeadElement()).setMaxWidth(columnConfig.getMaxWidth());
+        Node content = columnConfig.getCellRenderer().asElement(cellInfo);
+        HTMLTableCellElement element = cellInfo.getElement();
+        if (columnConfig.isPatchText() && isText(content) && isText(element.firstChild)
+                && element.firstChild == element.lastChild) {
+            element.firstChild.textContent = content.textContent;
+        } else {
+            ElementUtil.clear(element);
+            element.appendChild(content);
         }
+    }
 
-        if (nonNull(columnConfig.getTextAlign())) {
-            style.setTextAlign(columnConfig.getTextAlign());
-            Style.of(columnConfig.getHeadElement()).setTextAlign(columnConfig.getTextAlign());
-        }
+    private boolean isText(Node node) {
+        return nonNull(node) && node.nodeType == Node.TEXT_NODE;
+    }
+
+    /**
+     * Forces the next {@link #updateCell()} to render the cell even if the memoized value did not change.
+     */
+    public void invalidate() {
+        this.rendered = false;
+        this.renderedValue = null;
+    }
 
-        cellInfo.getElement().appendChild(columnConfig.getCellRenderer().asElement(cellInfo));
+    void redrawCell(String cellCssClass, boolean styledPerCell) {
+        cellInfo.getElement().className = cellCssClass;
+        // a recycled row is bound to another record, anything the renderer attached to the row is gone
+        invalidate();
+        updateCell();
+        if (styledPerCell) {
+            columnConfig.applyCellStyle(cellInfo.getElement());
+        }
     }
 }
@@ -0,0 +1,216 @@
+package org.dominokit.domino.ui.datatable;
+
+import java.util.*;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Keeps the selection of a {@link DataTable} independently from the rendered rows. Without a
+ * {@link RecordKeyProvider} the selected records are kept by row index, with one the selection is kept by record key
+ * so it survives page changes and data refreshes. Rows restore their selection from the model when they are rendered.
+ * <p>
+ * The model also tracks the selected rendered rows and how many of the records of the table are selected, so reading
+ * the selection does not go through all the rows or the records.
+ */
+public class SelectionModel<T> {
+
+    private final DataTable<T> dataTable;
+    private final BitSet selectedIndexes = new BitSet();
+    private final Map<Object, T> selectedRecords = new LinkedHashMap<>();
+    private int selectedCount = 0;
+    // selected records among the records of the table, the selection may also hold records of other pages
+    private int selectedDataCount = 0;
+    private final Set<TableRow<T>> selectedRows = Collections.newSetFromMap(new IdentityHashMap<>());
+    private boolean bulkUpdate = false;
+
+    SelectionModel(DataTable<T> dataTable) {
+        this.dataTable = dataTable;
+    }
+
+    private RecordKeyProvider<T> keyProvider() {
+        return dataTable.getTableConfig().getRecordKeyProvider();
+    }
+
+    private boolean isKeyed() {
+        return nonNull(keyProvider());
+    }
+
+    public boolean isSelected(int index, T record) {
+        if (isKeyed()) {
+            return selectedRecords.containsKey(keyProvider().getKey(record));
+        }
+        return index >= 0 && selectedIndexes.get(index);
+    }
+
+    void select(int index, T record) {
+        if (!dataTable.getTableConfig().isMultiSelect()) {
+            clear();
+        }
+        if (isKeyed()) {
+            Object key = keyProvider().getKey(record);
+            if (!selectedRecords.containsKey(key)) {
+                selectedRecords.put(key, record);
+                selectedCount++;
+                selectedDataCount++;
+            }
+        } else if (!selectedIndexes.get(index)) {
+            selectedIndexes.set(index);
+            selectedCount++;
+            selectedDataCount++;
+        }
+    }
+
+    void deselect(int index, T record) {
+        if (isKeyed()) {
+            Object key = keyProvider().getKey(record);
+            if (selectedRecords.containsKey(key)) {
+                selectedRecords.remove(key);
+                selectedCount--;
+                selectedDataCount--;
+            }
+        } else if (selectedIndexes.get(index)) {
+            selectedIndexes.clear(index);
+            selectedCount--;
+            selectedDataCount--;
+        }
+    }
+
+    /**
+     * Replaces a selected record by its new version, so the selected records are not stale after a data refresh.
+     */
+    void refresh(T record) {
+        if (isKeyed()) {
+            Object key = keyProvider().getKey(record);
+            if (selectedRecords.containsKey(key)) {
+                selectedRecords.put(key, record);
+            }
+        }
+    }
+
+    void selectRange(int fromIndex, int toIndex) {
+        List<T> records = dataTable.dataList();
+        int offset = dataTable.windowOffset();
+        int from = Math.max(Math.min(fromIndex, toIndex), offset);
+        int to = Math.min(Math.max(fromIndex, toIndex) + 1, offset + records.size());
+        if (from >= to) {
+            return;
+        }
+        if (isKeyed()) {
+            for (int index = from; index < to; index++) {
+                select(index, records.get(index - offset));
+            }
+        } else {
+            selectedDataCount += (to - from) - selectedIndexes.get(from, to).cardinality();
+            selectedIndexes.set(from, to);
+            selectedCount = selectedIndexes.cardinality();
+        }
+    }
+
+    void selectAll() {
+        selectRange(dataTable.windowOffset(), dataTable.windowOffset() + dataTable.dataList().size() - 1);
+    }
+
+    void clear() {
+        selectedIndexes.clear();
+        selectedRecords.clear();
+        selectedCount = 0;
+        selectedDataCount = 0;
+    }
+
+    /**
+     * Counts the selected records again after the records of the table changed.
+     */
+    void onDataChanged() {
+        List<T> records = dataTable.dataList();
+        if (isKeyed()) {
+            selectedDataCount = 0;
+            if (!selectedRecords.isEmpty()) {
+                for (T record : records) {
+                    if (selectedRecords.containsKey(keyProvider().getKey(record))) {
+                        selectedDataCount++;
+                    }
+                }
+            }
+        } else {
+            int offset = dataTable.windowOffset();
+            selectedDataCount = selectedIndexes.get(offset, offset + records.size()).cardinality();
+        }
+    }
+
+    /**
+     * Runs a selection change of many rows, the model is updated by the caller once for all the rows so the rows
+     * selection handlers only keep the selected rows.
+     */
+    void bulkUpdate(Runnable update) {
+        bulkUpdate = true;
+        try {
+            update.run();
+        } finally {
+            bulkUpdate = false;
+        }
+    }
+
+    void bind(TableRow<T> tableRow) {
+        tableRow.addSelectionHandler(selectable -> {
+            if (selectable.isSelected()) {
+                selectedRows.add(tableRow);
+                if (!bulkUpdate) {
+                    select(tableRow.getIndex(), tableRow.getRecord());
+                }
+            } else {
+                selectedRows.remove(tableRow);
+                if (!bulkUpdate) {
+                    deselect(tableRow.getIndex(), tableRow.getRecord());
+                }
+            }
+        });
+        if (isSelected(tableRow.getIndex(), tableRow.getRecord()) && !tableRow.isSelected()) {
+            tableRow.select();
+        }
+    }
+
+    void unbind(TableRow<T> tableRow) {
+        selectedRows.remove(tableRow);
+    }
+
+    void clearRows() {
+        selectedRows.clear();
+    }
+
+    /**
+     * @return the selected rendered rows in the order of their indexes
+     */
+    List<TableRow<T>> getSelectedRows() {
+        List<TableRow<T>> rows = new ArrayList<>(selectedRows);
+        rows.sort(Comparator.comparingInt(TableRow::getIndex));
+        return rows;
+    }
+
+    /**
+     * @return the number of selected records, including selected records that are not rendered
+     */
+    public int getSelectedCount() {
+        return selectedCount;
+    }
+
+    /**
+     * @return true if all the records of the table are selected
+     */
+    public boolean isAllSelected() {
+        int size = dataTable.dataList().size();
+        return size > 0 && selectedDataCount >= size;
+    }
+
+    public List<T> getSelectedRecords() {
+        if (isKeyed()) {
+            return new ArrayList<>(selectedRecords.values());
+        }
+        List<T> records = dataTable.dataList();
+        int offset = dataTable.windowOffset();
+        List<T> result = new ArrayList<>(selectedCount);
+        for (int index = selectedIndexes.nextSetBit(offset); index >= 0 && index < offset + records.size(); index = selectedIndexes.nextSetBit(index + 1)) {
+            result.add(records.get(index - offset));
+        }
+        return result;
+    }
+}
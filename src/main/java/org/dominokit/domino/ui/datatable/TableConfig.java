@@ -3,7 +3,6 @@ package org.dominokit.domino.ui.datatable;
 import elemental2.dom.*;
 import org.dominokit.domino.ui.datatable.plugins.DataTablePlugin;
 import org.dominokit.domino.ui.popover.Tooltip;
-import org.dominokit.domino.ui.style.Style;
 import org.dominokit.domino.ui.utils.HasMultiSelectionSupport;
 import org.jboss.gwt.elemento.core.builder.HtmlContentBuilder;
 
@@ -23,9 +22,20 @@ public class TableConfig<T> implements HasMultiSelectionSupport {
     private String fixedBodyHeight = "400px";
     private boolean lazyLoad = true;
     private boolean multiSelect = true;
+    private boolean virtualScrolling = false;
+    private int virtualRowHeight = 37;
+    private int virtualOverscan = 10;
+    private RecordKeyProvider<T> recordKeyProvider;
+    private boolean chunkedRendering = false;
+    private double renderChunkBudget = 8;
+    private boolean virtualColumns = false;
+    private int virtualColumnsBuffer = 200;
+    private ColumnsStyleSheet<T> columnsStyleSheet;
+    private VirtualColumns<T> columnsWindow;
 
     public void drawHeaders(DataTable<T> dataTable, HTMLTableSectionElement thead) {
         this.dataTable = dataTable;
+        this.columnsStyleSheet = new ColumnsStyleSheet<>(dataTable);
         HtmlContentBuilder<HTMLTableRowElement> tr = tr();
         thead.appendChild(tr.asElement());
 
@@ -35,12 +45,11 @@ public class TableConfig<T> implements HasMultiSelectionSupport {
             HtmlContentBuilder<HTMLDivElement> add = div().style("display: flex;")
                     .add(div().style("width:100%").add(element))
                     .add(columnConfig.contextMenu);
-            HtmlContentBuilder<HTMLTableCellElement> th = th().css("table-cm-header").add(add.asElement());
+            HtmlContentBuilder<HTMLTableCellElement> th = th().css("table-cm-header", columnsStyleSheet.columnCssClass(columnConfig))
+                    .add(add.asElement());
             tr.add(th);
             columnConfig.setHeadElement(th.asElement());
-            if (dataTable.getTableConfig().isFixed() || columnConfig.isFixed()) {
-                fixElementWidth(columnConfig, th.asElement());
-            }
+            columnsStyleSheet.compileColumn(columnConfig, columnWidth(columnConfig));
 
             Tooltip.create(th.asElement(), columnConfig.getTooltipNode());
             columnConfig.applyHeaderStyle();
@@ -48,47 +57,83 @@ public class TableConfig<T> implements HasMultiSelectionSupport {
             plugins.forEach(plugin -> plugin.onHeaderAdded(dataTable, columnConfig));
         });
 
+        columnsStyleSheet.apply();
         dataTable.tableElement().appendChild(thead);
+        if (virtualColumns) {
+            columnsWindow = VirtualColumns.create(dataTable);
+            if (nonNull(columnsWindow)) {
+                columnsWindow.init(tr.asElement());
+            }
+        }
     }
 
-    private void fixElementWidth(ColumnConfig<T> column, HTMLElement element) {
-        String fixedWidth = bestFitWidth(column);
-        Style.of(element)
-                .setWidth(fixedWidth)
-                .setMinWidth(fixedWidth)
-                .setMaxWidth(fixedWidth)
-                .setProperty("overflow", "hidden")
-                .setProperty("text-overflow", "ellipsis")
-                .setProperty("white-space", "nowrap");
-
+    /**
+     * @return the width the column is laid out with, null when the column width is not fixed
+     */
+    String columnWidth(ColumnConfig<T> columnConfig) {
+        if (isFixed() || columnConfig.isFixed()) {
+            return bestFitWidth(columnConfig);
+        }
+        if (virtualColumns && !columnConfig.isPinned() && nonNull(columnConfig.getWidth()) && !columnConfig.getWidth().isEmpty()) {
+            return columnConfig.getWidth();
+        }
+        return null;
     }
 
     public void drawRecord(DataTable<T> dataTable, TableRow<T> tableRow) {
-        columns.forEach(columnConfig -> {
+        drawCells(dataTable, tableRow);
+        dataTable.bodyElement().appendChild(tableRow.asElement());
+        onRowAdded(dataTable, tableRow);
+    }
 
-            HTMLTableCellElement cellElement;
-            if (columnConfig.isHeader()) {
-                cellElement = th().asElement();
-            } else {
-                cellElement = td().asElement();
-            }
+    void drawCells(DataTable<T> dataTable, TableRow<T> tableRow) {
+        if (nonNull(columnsWindow)) {
+            columnsWindow.drawCells(tableRow);
+            return;
+        }
+        columns.forEach(columnConfig -> tableRow.asElement().appendChild(drawCell(tableRow, columnConfig)));
+    }
 
-            if (dataTable.getTableConfig().isFixed() || columnConfig.isFixed()) {
-                fixElementWidth(columnConfig, cellElement);
-            }
+    HTMLTableCellElement drawCell(TableRow<T> tableRow, ColumnConfig<T> columnConfig) {
+        HTMLTableCellElement cellElement;
+        if (columnConfig.isHeader()) {
+            cellElement = th().asElement();
+        } else {
+            cellElement = td().asElement();
+        }
 
-            RowCell<T> rowCell = new RowCell<>(new CellRenderer.CellInfo<>(tableRow, cellElement), columnConfig);
-            rowCell.updateCell();
-            tableRow.addCell(rowCell);
+        cellElement.className = columnsStyleSheet.cellCssClass(columnConfig);
 
-            tableRow.asElement().appendChild(cellElement);
+        RowCell<T> rowCell = new RowCell<>(new CellRenderer.CellInfo<>(tableRow, cellElement), columnConfig);
+        rowCell.updateCell();
+        tableRow.addCell(rowCell);
+
+        if (columnsStyleSheet.isStyledPerCell(columnConfig)) {
             columnConfig.applyCellStyle(cellElement);
-        });
-        dataTable.bodyElement().appendChild(tableRow.asElement());
+        }
+        return cellElement;
+    }
 
+    void redrawCells(TableRow<T> tableRow) {
+        tableRow.getRowCells().values()
+                .forEach(rowCell -> rowCell.redrawCell(columnsStyleSheet.cellCssClass(rowCell.getColumnConfig()),
+                        columnsStyleSheet.isStyledPerCell(rowCell.getColumnConfig())));
+        if (nonNull(columnsWindow)) {
+            // a recycled row may have been drawn for another columns window, the cells it is missing are drawn new
+            columnsWindow.syncRow(tableRow);
+        }
+    }
+
+    void onRowAdded(DataTable<T> dataTable, TableRow<T> tableRow) {
+        dataTable.getSelectionModel().bind(tableRow);
         plugins.forEach(plugin -> plugin.onRowAdded(dataTable, tableRow));
     }
 
+    void onRowRemoved(DataTable<T> dataTable, TableRow<T> tableRow) {
+        dataTable.getSelectionModel().unbind(tableRow);
+        plugins.forEach(plugin -> plugin.onRowRemoved(dataTable, tableRow));
+    }
+
 
     public TableConfig<T> addColumn(ColumnConfig<T> column) {
         this.columns.add(column);
@@ -128,6 +173,128 @@ public class TableConfig<T> implements HasMultiSelectionSupport {
         return this;
     }
 
+    public boolean isVirtualScrolling() {
+        return virtualScrolling;
+    }
+
+    /**
+     * Renders only the rows visible in the table body plus an overscan buffer, rows are recycled while scrolling.
+     * Virtual scrolling needs a scrollable body, so enabling it also makes the table fixed.
+     *
+     * @param virtualScrolling true to enable the windowed rendering mode
+     * @return same TableConfig instance
+     */
+    public TableConfig<T> setVirtualScrolling(boolean virtualScrolling) {
+        this.virtualScrolling = virtualScrolling;
+        if (virtualScrolling) {
+            this.fixed = true;
+        }
+        return this;
+    }
+
+    public int getVirtualRowHeight() {
+        return virtualRowHeight;
+    }
+
+    public TableConfig<T> setVirtualRowHeight(int virtualRowHeight) {
+        this.virtualRowHeight = virtualRowHeight;
+        return this;
+    }
+
+    public int getVirtualOverscan() {
+        return virtualOverscan;
+    }
+
+    public TableConfig<T> setVirtualOverscan(int virtualOverscan) {
+        this.virtualOverscan = virtualOverscan;
+        return this;
+    }
+
+    public RecordKeyProvider<T> getRecordKeyProvider() {
+        return recordKeyProvider;
+    }
+
+    /**
+     * When a key provider is set, replacing the table data reuses the rows of records with the same key even if the
+     * records are new instances, the rows keep their listeners and selection and their cells are updated, cells of
+     * columns with a value extractor only when the extracted value changed.
+     *
+     * @param recordKeyProvider provides a unique key for each record
+     * @return same TableConfig instance
+     */
+    public TableConfig<T> setRecordKeyProvider(RecordKeyProvider<T> recordKeyProvider) {
+        this.recordKeyProvider = recordKeyProvider;
+        return this;
+    }
+
+    public boolean isChunkedRendering() {
+        return chunkedRendering;
+    }
+
+    /**
+     * Renders large pages in time sliced chunks, one chunk per animation frame, the first chunk is rendered right
+     * away so the first rows show up without waiting. Progress and completion are reported with
+     * {@link org.dominokit.domino.ui.datatable.events.RenderProgressEvent} and
+     * {@link org.dominokit.domino.ui.datatable.events.RenderCompletedEvent}, the
+     * {@link org.dominokit.domino.ui.datatable.events.TableDataUpdatedEvent} is fired once the last chunk is rendered.
+     * Ignored when virtual scrolling is enabled.
+     *
+     * @param chunkedRendering true to enable the chunked rendering
+     * @return same TableConfig instance
+     */
+    public TableConfig<T> setChunkedRendering(boolean chunkedRendering) {
+        this.chunkedRendering = chunkedRendering;
+        return this;
+    }
+
+    public double getRenderChunkBudget() {
+        return renderChunkBudget;
+    }
+
+    public TableConfig<T> setRenderChunkBudget(double renderChunkBudget) {
+        this.renderChunkBudget = renderChunkBudget;
+        return this;
+    }
+
+    /**
+     * @return the number of cells shown in a row, the number of columns unless the columns are virtual, to be used as
+     * the colspan of cells spanning the whole row, see
+     * {@link org.dominokit.domino.ui.datatable.events.RenderedColumnsChangedEvent}
+     */
+    public int getRenderedColumnsCount() {
+        return nonNull(columnsWindow) ? columnsWindow.getRenderedColumnsCount() : columns.size();
+    }
+
+    public boolean isVirtualColumns() {
+        return virtualColumns;
+    }
+
+    /**
+     * Renders only the columns in the horizontal viewport of the table plus a buffer, for very wide tables. Columns
+     * are laid out with their fixed width, so it only takes effect when the table is fixed or when every column that
+     * is not pinned has a width in pixels. Pinned columns at the start of the table are always rendered.
+     *
+     * @param virtualColumns true to enable the columns windowing
+     * @return same TableConfig instance
+     */
+    public TableConfig<T> setVirtualColumns(boolean virtualColumns) {
+        this.virtualColumns = virtualColumns;
+        return this;
+    }
+
+    public int getVirtualColumnsBuffer() {
+        return virtualColumnsBuffer;
+    }
+
+    /**
+     * @param virtualColumnsBuffer width in pixels rendered on each side of the horizontal viewport
+     * @return same TableConfig instance
+     */
+    public TableConfig<T> setVirtualColumnsBuffer(int virtualColumnsBuffer) {
+        this.virtualColumnsBuffer = virtualColumnsBuffer;
+        return this;
+    }
+
     public String getFixedBodyHeight() {
         return fixedBodyHeight;
     }
@@ -9,12 +9,18 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static java.util.Objects.nonNull;
 import static org.jboss.gwt.elemento.core.Elements.tr;
 
 public class TableRow<T> implements Selectable<T>, IsElement<HTMLTableRowElement> {
+
+    static final String FILTERED = "table-row-filtered";
+    static final String FILTERED_FLAG = "data-table-row-filtered";
+
     private T record;
     private boolean selected = false;
-    private final int index;
+    private boolean filtered = false;
+    private int index;
     private final Map<String, RowCell<T>> rowCells = new HashMap<>();
 
     private Map<String, String> flags = new HashMap<>();
@@ -24,6 +30,7 @@ public class TableRow<T> implements Selectable<T>, IsElement<HTMLTableRowElement
     private List<SelectionHandler<T>> selectionHandlers = new ArrayList<>();
 
     private List<RowListener<T>> listeners = new ArrayList<>();
+    private VirtualColumns.ColumnsWindow columnsWindow;
 
     public TableRow(T record, int index) {
         this.record = record;
@@ -32,7 +39,7 @@ public class TableRow<T> implements Selectable<T>, IsElement<HTMLTableRowElement
 
     @Override
     public T select() {
-        if (!hasFalg("data-table-row-filtered")) {
+        if (!filtered) {
             this.selected = true;
             selectionHandlers.forEach(selectionHandler -> selectionHandler.onSelectionChanged(TableRow.this));
         }
@@ -90,6 +97,21 @@ public class TableRow<T> implements Selectable<T>, IsElement<HTMLTableRowElement
         return element;
     }
 
+    public boolean isFiltered() {
+        return filtered;
+    }
+
+    void setFiltered(boolean filtered) {
+        this.filtered = filtered;
+        if (filtered) {
+            element.classList.add(FILTERED);
+            flags.put(FILTERED_FLAG, "true");
+        } else {
+            element.classList.remove(FILTERED);
+            flags.remove(FILTERED_FLAG);
+        }
+    }
+
     public void setFlag(String name, String value) {
         flags.put(name, value);
     }
@@ -122,14 +144,60 @@ public class TableRow<T> implements Selectable<T>, IsElement<HTMLTableRowElement
         return rowCells.get(name);
     }
 
+    void removeCell(String name) {
+        RowCell<T> rowCell = rowCells.remove(name);
+        if (nonNull(rowCell)) {
+            rowCell.getCellInfo().getElement().remove();
+        }
+    }
+
+    VirtualColumns.ColumnsWindow getColumnsWindow() {
+        return columnsWindow;
+    }
+
+    void setColumnsWindow(VirtualColumns.ColumnsWindow columnsWindow) {
+        this.columnsWindow = columnsWindow;
+    }
+
     public int getIndex() {
         return index;
     }
 
+    void setIndex(int index) {
+        this.index = index;
+    }
+
     public void updateRow() {
         rowCells.values().forEach(RowCell::updateCell);
     }
 
+    /**
+     * Binds the row to a new version of the same record, the listeners, selection, flags and meta objects are kept and
+     * the cells are updated, memoized cells only when their value changed.
+     */
+    void update(T record, int index) {
+        this.record = record;
+        this.index = index;
+        updateRow();
+        fireUpdate();
+    }
+
+    Map<String, RowCell<T>> getRowCells() {
+        return rowCells;
+    }
+
+    void rebind(T record, int index) {
+        this.record = record;
+        this.index = index;
+        this.selected = false;
+        this.filtered = false;
+        this.flags.clear();
+        this.metaObjects.clear();
+        this.selectionHandlers.clear();
+        this.listeners.clear();
+        this.element.className = "";
+    }
+
     @FunctionalInterface
     public interface RowListener<T> {
         void onChange(TableRow<T> tableRow);
@@ -0,0 +1,292 @@
+package org.dominokit.domino.ui.datatable;
+
+import com.google.gwt.animation.client.AnimationScheduler;
+import elemental2.dom.DomGlobal;
+import elemental2.dom.HTMLElement;
+import elemental2.dom.HTMLTableCellElement;
+import elemental2.dom.HTMLTableRowElement;
+import elemental2.dom.Node;
+import org.dominokit.domino.ui.datatable.events.RenderedColumnsChangedEvent;
+import org.dominokit.domino.ui.style.Style;
+import org.dominokit.domino.ui.utils.ElementUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+
+import static java.util.Objects.isNull;
+import static org.jboss.gwt.elemento.core.Elements.td;
+import static org.jboss.gwt.elemento.core.Elements.th;
+
+/**
+ * Renders only the columns that intersect the horizontal viewport of the table plus a buffer, the columns on each
+ * side of the window are replaced by a spacer cell as wide as the columns it stands for. The leading pinned columns
+ * are always rendered. Every rendered row and the header row keep the range of columns they were drawn with so they
+ * can be moved to a new window incrementally.
+ */
+class VirtualColumns<T> {
+
+    private static final String SPACER = "table-column-spacer";
+
+    private final DataTable<T> dataTable;
+    private final TableConfig<T> tableConfig;
+    private final List<ColumnConfig<T>> columns;
+    private final int pinnedCount;
+    // offsets of the windowed columns from the end of the pinned columns, one more entry for the total width
+    private final double[] offsets;
+    private final HTMLElement scrollElement;
+    private final ColumnsWindow headerWindow = new ColumnsWindow(th().css(SPACER).asElement(), th().css(SPACER).asElement());
+    private HTMLTableRowElement headerRow;
+    private double pinnedWidth = 0;
+    private int first;
+    private int last;
+    private boolean frameRequested = false;
+
+    private VirtualColumns(DataTable<T> dataTable, List<ColumnConfig<T>> columns, int pinnedCount, double[] widths) {
+        this.dataTable = dataTable;
+        this.tableConfig = dataTable.getTableConfig();
+        this.columns = columns;
+        this.pinnedCount = pinnedCount;
+        this.offsets = new double[columns.size() - pinnedCount + 1];
+        for (int i = 0; i < widths.length; i++) {
+            offsets[i + 1] = offsets[i] + widths[i];
+        }
+        this.first = pinnedCount;
+        this.last = pinnedCount;
+        this.scrollElement = tableConfig.isFixed() ? dataTable.bodyElement() : dataTable.asElement();
+    }
+
+    /**
+     * @return the virtual columns of the table, or null if a windowed column has no width in pixels to lay it out with
+     */
+    static <T> VirtualColumns<T> create(DataTable<T> dataTable) {
+        TableConfig<T> tableConfig = dataTable.getTableConfig();
+        List<ColumnConfig<T>> columns = new ArrayList<>(tableConfig.getColumns());
+        int pinnedCount = 0;
+        while (pinnedCount < columns.size() && columns.get(pinnedCount).isPinned()) {
+            pinnedCount++;
+        }
+        double[] widths = new double[columns.size() - pinnedCount];
+        for (int i = pinnedCount; i < columns.size(); i++) {
+            widths[i - pinnedCount] = pixels(tableConfig.columnWidth(columns.get(i)));
+            if (widths[i - pinnedCount] < 0) {
+                return null;
+            }
+        }
+        return new VirtualColumns<>(dataTable, columns, pinnedCount, widths);
+    }
+
+    static double pixels(String width) {
+        if (isNull(width) || !width.trim().endsWith("px")) {
+            return -1;
+        }
+        try {
+            return Double.parseDouble(width.trim().substring(0, width.trim().length() - 2));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    void init(HTMLTableRowElement headerRow) {
+        this.headerRow = headerRow;
+        updateWindow();
+        // all the header cells are created by drawHeaders for the plugins, the ones outside the window are detached
+        for (int i = pinnedCount; i < columns.size(); i++) {
+            if (i < first || i >= last) {
+                columns.get(i).getHeadElement().remove();
+            }
+        }
+        headerRow.insertBefore(headerWindow.leftSpacer, first < last ? columns.get(first).getHeadElement() : null);
+        headerRow.appendChild(headerWindow.rightSpacer);
+        headerWindow.start = first;
+        headerWindow.end = last;
+        updateSpacers(headerWindow);
+
+        if (tableConfig.isFixed()) {
+            Style.of(dataTable.headerElement()).setProperty("overflow", "hidden");
+        }
+        scrollElement.addEventListener("scroll", evt -> {
+            if (tableConfig.isFixed()) {
+                dataTable.headerElement().scrollLeft = scrollElement.scrollLeft;
+            }
+            if (!frameRequested) {
+                frameRequested = true;
+                AnimationScheduler.get().requestAnimationFrame(timestamp -> {
+                    frameRequested = false;
+                    render();
+                });
+            }
+        });
+        ElementUtil.onAttach(dataTable.asElement(), mutationRecord -> render());
+    }
+
+    private void updateWindow() {
+        double viewportWidth = scrollElement.clientWidth > 0 ? scrollElement.clientWidth : DomGlobal.window.innerWidth;
+        double start = scrollElement.scrollLeft - pinnedWidth() - tableConfig.getVirtualColumnsBuffer();
+        double end = scrollElement.scrollLeft + viewportWidth - pinnedWidth() + tableConfig.getVirtualColumnsBuffer();
+        first = pinnedCount + firstEndingAfter(start);
+        last = Math.max(first, pinnedCount + firstStartingAfter(end));
+    }
+
+    private double pinnedWidth() {
+        if (pinnedWidth == 0 && pinnedCount > 0) {
+            for (int i = 0; i < pinnedCount; i++) {
+                HTMLTableCellElement headElement = columns.get(i).getHeadElement();
+                pinnedWidth += headElement.getBoundingClientRect().width;
+            }
+        }
+        return pinnedWidth;
+    }
+
+    private int firstEndingAfter(double position) {
+        int low = 0;
+        int high = offsets.length - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (offsets[middle + 1] <= position) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int firstStartingAfter(double position) {
+        int low = 0;
+        int high = offsets.length - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (offsets[middle] < position) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    void render() {
+        int previousFirst = first;
+        int previousLast = last;
+        int previousCount = getRenderedColumnsCount();
+        updateWindow();
+        if (first == previousFirst && last == previousLast) {
+            return;
+        }
+        syncHeader();
+        dataTable.getTableRows().forEach(this::syncRow);
+        if (getRenderedColumnsCount() != previousCount) {
+            dataTable.fireTableEvent(new RenderedColumnsChangedEvent(getRenderedColumnsCount()));
+        }
+    }
+
+    /**
+     * @return the number of cells shown in a row for the current window, the pinned and windowed columns and the
+     * spacers that have a width
+     */
+    int getRenderedColumnsCount() {
+        int count = pinnedCount + last - first;
+        if (offsets[first - pinnedCount] > 0) {
+            count++;
+        }
+        if (offsets[offsets.length - 1] - offsets[last - pinnedCount] > 0) {
+            count++;
+        }
+        return count;
+    }
+
+    private void syncHeader() {
+        sync(headerRow, headerWindow,
+                index -> columns.get(index).getHeadElement(),
+                index -> columns.get(index).getHeadElement().remove());
+    }
+
+    void drawCells(TableRow<T> tableRow) {
+        HTMLTableRowElement rowElement = tableRow.asElement();
+        for (int i = 0; i < pinnedCount; i++) {
+            rowElement.appendChild(tableConfig.drawCell(tableRow, columns.get(i)));
+        }
+        ColumnsWindow window = new ColumnsWindow(td().css(SPACER).asElement(), td().css(SPACER).asElement());
+        rowElement.appendChild(window.leftSpacer);
+        for (int i = first; i < last; i++) {
+            rowElement.appendChild(tableConfig.drawCell(tableRow, columns.get(i)));
+        }
+        rowElement.appendChild(window.rightSpacer);
+        window.start = first;
+        window.end = last;
+        updateSpacers(window);
+        tableRow.setColumnsWindow(window);
+    }
+
+    void syncRow(TableRow<T> tableRow) {
+        ColumnsWindow window = tableRow.getColumnsWindow();
+        if (isNull(window)) {
+            return;
+        }
+        sync(tableRow.asElement(), window,
+                index -> tableConfig.drawCell(tableRow, columns.get(index)),
+                index -> tableRow.removeCell(columns.get(index).getName()));
+    }
+
+    private void sync(HTMLTableRowElement rowElement, ColumnsWindow window, IntFunction<Node> attach, IntConsumer detach) {
+        if (window.start == first && window.end == last) {
+            return;
+        }
+        if (last <= window.start || first >= window.end) {
+            for (int i = window.start; i < window.end; i++) {
+                detach.accept(i);
+            }
+            for (int i = first; i < last; i++) {
+                rowElement.insertBefore(attach.apply(i), window.rightSpacer);
+            }
+        } else {
+            for (int i = window.start; i < first; i++) {
+                detach.accept(i);
+            }
+            for (int i = last; i < window.end; i++) {
+                detach.accept(i);
+            }
+            Node firstRendered = window.leftSpacer.nextSibling;
+            for (int i = first; i < window.start; i++) {
+                rowElement.insertBefore(attach.apply(i), firstRendered);
+            }
+            for (int i = window.end; i < last; i++) {
+                rowElement.insertBefore(attach.apply(i), window.rightSpacer);
+            }
+        }
+        window.start = first;
+        window.end = last;
+        updateSpacers(window);
+    }
+
+    private void updateSpacers(ColumnsWindow window) {
+        setSpacerWidth(window.leftSpacer, offsets[window.start - pinnedCount]);
+        setSpacerWidth(window.rightSpacer, offsets[offsets.length - 1] - offsets[window.end - pinnedCount]);
+    }
+
+    private void setSpacerWidth(HTMLTableCellElement spacer, double width) {
+        if (width > 0) {
+            Style.of(spacer)
+                    .setWidth(width + "px")
+                    .setMinWidth(width + "px")
+                    .setMaxWidth(width + "px")
+                    .removeProperty("display");
+        } else {
+            Style.of(spacer).setDisplay("none");
+        }
+    }
+
+    static class ColumnsWindow {
+        private final HTMLTableCellElement leftSpacer;
+        private final HTMLTableCellElement rightSpacer;
+        private int start;
+        private int end;
+
+        private ColumnsWindow(HTMLTableCellElement leftSpacer, HTMLTableCellElement rightSpacer) {
+            this.leftSpacer = leftSpacer;
+            this.rightSpacer = rightSpacer;
+        }
+    }
+}
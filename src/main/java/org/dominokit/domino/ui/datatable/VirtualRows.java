@@ -0,0 +1,296 @@
+package org.dominokit.domino.ui.datatable;
+
+import com.google.gwt.animation.client.AnimationScheduler;
+import elemental2.dom.HTMLTableCellElement;
+import elemental2.dom.HTMLTableRowElement;
+import elemental2.dom.HTMLTableSectionElement;
+import elemental2.dom.Node;
+import jsinterop.base.Js;
+import org.dominokit.domino.ui.style.Style;
+import org.dominokit.domino.ui.utils.ElementUtil;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedList;
+import java.util.List;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.jboss.gwt.elemento.core.Elements.td;
+import static org.jboss.gwt.elemento.core.Elements.tr;
+
+class VirtualRows<T> {
+
+    private static final String SPACER = "table-spacer";
+
+    private final DataTable<T> dataTable;
+    private final TableConfig<T> tableConfig;
+    private final HTMLTableSectionElement tbody;
+    private final HTMLTableRowElement parityRow = tr().css(SPACER).style("display: none;").asElement();
+    private final HTMLTableRowElement topSpacer = tr().css(SPACER).asElement();
+    private final HTMLTableRowElement bottomSpacer = tr().css(SPACER).asElement();
+    private final LinkedList<TableRow<T>> recycledRows = new LinkedList<>();
+    private List<T> data = new ArrayList<>();
+    // positions of the rendered rows among the visible records
+    private int firstIndex = 0;
+    private int lastIndex = 0;
+    private DataTable.LocalRowFilter<T> rowFilter;
+    private final BitSet filteredIndexes = new BitSet();
+    private int[] visibleIndexes;
+    private int visibleCount = 0;
+    private int filteredUpTo = 0;
+    private TableRow<T> filterProbe;
+    private boolean renderScheduled = false;
+
+    VirtualRows(DataTable<T> dataTable) {
+        this.dataTable = dataTable;
+        this.tableConfig = dataTable.getTableConfig();
+        this.tbody = dataTable.bodyElement();
+        topSpacer.appendChild(spacerCell());
+        bottomSpacer.appendChild(spacerCell());
+        tbody.appendChild(topSpacer);
+        tbody.appendChild(bottomSpacer);
+        tbody.addEventListener("scroll", evt -> scheduleRender());
+        ElementUtil.onAttach(dataTable.asElement(), mutationRecord -> render());
+    }
+
+    private HTMLTableCellElement spacerCell() {
+        return td().attr("colspan", tableConfig.getRenderedColumnsCount() + "").asElement();
+    }
+
+    void setColspan(int colspan) {
+        Js.<HTMLTableCellElement>uncheckedCast(topSpacer.firstChild).setAttribute("colspan", colspan + "");
+        Js.<HTMLTableCellElement>uncheckedCast(bottomSpacer.firstChild).setAttribute("colspan", colspan + "");
+    }
+
+    void reset(List<T> data) {
+        List<TableRow<T>> tableRows = dataTable.getTableRows();
+        tableRows.forEach(this::recycle);
+        tableRows.clear();
+        this.data = data;
+        this.firstIndex = 0;
+        this.lastIndex = 0;
+        this.rowFilter = null;
+        this.filteredIndexes.clear();
+        this.visibleIndexes = null;
+        render();
+    }
+
+    /**
+     * Renders the rows again after a store that keeps a sliding window of records inserted records at the start of the
+     * data or removed records from one of its ends. The scroll position moves by the height of the records inserted or
+     * removed at the start so the same records stay in view.
+     *
+     * @param shiftedCount the number of records inserted at the start of the data, negative when records were removed
+     *                     from the start
+     */
+    void shift(int shiftedCount) {
+        int removedVisible = 0;
+        if (shiftedCount < 0) {
+            removedVisible = isNull(rowFilter) ? -shiftedCount : visibleBefore(-shiftedCount);
+        }
+        List<TableRow<T>> tableRows = dataTable.getTableRows();
+        tableRows.forEach(this::recycle);
+        tableRows.clear();
+        firstIndex = 0;
+        lastIndex = 0;
+        filteredIndexes.clear();
+        visibleIndexes = null;
+        visibleCount = 0;
+        filteredUpTo = 0;
+        if (nonNull(rowFilter)) {
+            applyFilter();
+        }
+        int insertedVisible = 0;
+        if (shiftedCount > 0) {
+            insertedVisible = isNull(rowFilter) ? shiftedCount : visibleBefore(shiftedCount);
+        }
+        int rowHeight = tableConfig.getVirtualRowHeight();
+        // the spacers give the body its new scroll height before the scroll position moves, otherwise it is clamped
+        updateSpacers(rowHeight);
+        tbody.scrollTop = Math.max(0, tbody.scrollTop + (insertedVisible - removedVisible) * rowHeight);
+        render();
+    }
+
+    private int visibleBefore(int index) {
+        int count = 0;
+        while (nonNull(visibleIndexes) && count < visibleCount && visibleIndexes[count] < index) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Filters all the records instead of the rendered rows, the filtered records are left out of the rendered range
+     * and the spacers so they take no layout. The filter gets a detached row bound to each record.
+     *
+     * @return the number of records which visibility changed
+     */
+    int filter(DataTable.LocalRowFilter<T> rowFilter) {
+        BitSet previous = (BitSet) filteredIndexes.clone();
+        this.rowFilter = rowFilter;
+        filteredIndexes.clear();
+        visibleIndexes = null;
+        filteredUpTo = 0;
+        if (nonNull(rowFilter)) {
+            applyFilter();
+        }
+        previous.xor(filteredIndexes);
+        if (previous.isEmpty()) {
+            return 0;
+        }
+        List<TableRow<T>> tableRows = dataTable.getTableRows();
+        tableRows.forEach(this::recycle);
+        tableRows.clear();
+        firstIndex = 0;
+        lastIndex = 0;
+        render();
+        return previous.cardinality();
+    }
+
+    private void applyFilter() {
+        if (isNull(filterProbe)) {
+            filterProbe = new TableRow<>(null, -1);
+        }
+        if (isNull(visibleIndexes) || visibleIndexes.length < data.size()) {
+            int[] indexes = new int[data.size()];
+            if (nonNull(visibleIndexes)) {
+                System.arraycopy(visibleIndexes, 0, indexes, 0, visibleCount);
+            } else {
+                visibleCount = 0;
+            }
+            visibleIndexes = indexes;
+        }
+        for (int index = filteredUpTo; index < data.size(); index++) {
+            filterProbe.rebind(data.get(index), index);
+            if (rowFilter.filter(filterProbe)) {
+                visibleIndexes[visibleCount++] = index;
+            } else {
+                filteredIndexes.set(index);
+            }
+        }
+        filteredUpTo = data.size();
+    }
+
+    BitSet getFilteredIndexes() {
+        return filteredIndexes;
+    }
+
+    int getVisibleCount() {
+        return nonNull(rowFilter) ? visibleCount : data.size();
+    }
+
+    private int dataIndex(int position) {
+        return nonNull(rowFilter) ? visibleIndexes[position] : position;
+    }
+
+    private void scheduleRender() {
+        if (!renderScheduled) {
+            renderScheduled = true;
+            AnimationScheduler.get().requestAnimationFrame(timestamp -> {
+                renderScheduled = false;
+                render();
+            });
+        }
+    }
+
+    void render() {
+        int rowHeight = tableConfig.getVirtualRowHeight();
+        int overscan = tableConfig.getVirtualOverscan();
+        double scrollTop = tbody.scrollTop;
+        double viewportHeight = tbody.clientHeight > 0 ? tbody.clientHeight : fallbackViewportHeight();
+
+        if (nonNull(rowFilter) && filteredUpTo < data.size()) {
+            applyFilter();
+        }
+        int count = getVisibleCount();
+        int last = Math.min(count, (int) Math.ceil((scrollTop + viewportHeight) / rowHeight) + overscan);
+        int first = Math.min(last, Math.max(0, (int) Math.floor(scrollTop / rowHeight) - overscan));
+
+        List<TableRow<T>> tableRows = dataTable.getTableRows();
+        while (!tableRows.isEmpty() && firstIndex < first) {
+            recycle(tableRows.remove(0));
+            firstIndex++;
+        }
+        while (!tableRows.isEmpty() && lastIndex > last) {
+            recycle(tableRows.remove(tableRows.size() - 1));
+            lastIndex--;
+        }
+
+        if (tableRows.isEmpty()) {
+            firstIndex = first;
+            lastIndex = first;
+        }
+
+        for (int position = firstIndex - 1; position >= first; position--) {
+            tableRows.add(0, obtainRow(dataIndex(position), tableRows.isEmpty() ? bottomSpacer : tableRows.get(0).asElement()));
+        }
+        for (int position = lastIndex; position < last; position++) {
+            tableRows.add(obtainRow(dataIndex(position), bottomSpacer));
+        }
+
+        firstIndex = first;
+        lastIndex = last;
+        updateSpacers(rowHeight);
+    }
+
+    private TableRow<T> obtainRow(int index, Node before) {
+        T record = data.get(index);
+        TableRow<T> tableRow;
+        if (recycledRows.isEmpty()) {
+            tableRow = new TableRow<>(record, index);
+            Style.of(tableRow.asElement()).setHeight(tableConfig.getVirtualRowHeight() + "px");
+            tableConfig.drawCells(dataTable, tableRow);
+            tbody.insertBefore(tableRow.asElement(), before);
+        } else {
+            tableRow = recycledRows.removeFirst();
+            tableRow.rebind(record, index);
+            tbody.insertBefore(tableRow.asElement(), before);
+            tableConfig.redrawCells(tableRow);
+        }
+        tableConfig.onRowAdded(dataTable, tableRow);
+        return tableRow;
+    }
+
+    private void recycle(TableRow<T> tableRow) {
+        tableConfig.onRowRemoved(dataTable, tableRow);
+        tableRow.asElement().remove();
+        recycledRows.add(tableRow);
+    }
+
+    private void updateSpacers(int rowHeight) {
+        setSpacerHeight(topSpacer, firstIndex * rowHeight);
+        setSpacerHeight(bottomSpacer, (getVisibleCount() - lastIndex) * rowHeight);
+
+        // keeps the nth-of-type striping stable while the first rendered index moves
+        if (firstIndex % 2 == 0) {
+            if (parityRow.parentNode != tbody) {
+                tbody.insertBefore(parityRow, tbody.firstChild);
+            }
+        } else {
+            parityRow.remove();
+        }
+    }
+
+    private void setSpacerHeight(HTMLTableRowElement spacer, int height) {
+        if (height > 0) {
+            Style.of(spacer)
+                    .setHeight(height + "px")
+                    .removeProperty("display");
+        } else {
+            Style.of(spacer).setDisplay("none");
+        }
+    }
+
+    private double fallbackViewportHeight() {
+        String fixedBodyHeight = tableConfig.getFixedBodyHeight();
+        if (fixedBodyHeight.endsWith("px")) {
+            try {
+                return Double.parseDouble(fixedBodyHeight.substring(0, fixedBodyHeight.length() - 2));
+            } catch (NumberFormatException e) {
+                return tableConfig.getVirtualRowHeight() * tableConfig.getVirtualOverscan();
+            }
+        }
+        return tableConfig.getVirtualRowHeight() * tableConfig.getVirtualOverscan();
+    }
+}
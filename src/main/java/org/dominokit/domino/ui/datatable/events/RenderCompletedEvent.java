@@ -0,0 +1,21 @@
+package org.dominokit.domino.ui.datatable.events;
+
+public class RenderCompletedEvent implements TableEvent {
+
+    public static final String RENDER_COMPLETED = "table-render-completed";
+
+    private final int renderedCount;
+
+    public RenderCompletedEvent(int renderedCount) {
+        this.renderedCount = renderedCount;
+    }
+
+    @Override
+    public String getType() {
+        return RENDER_COMPLETED;
+    }
+
+    public int getRenderedCount() {
+        return renderedCount;
+    }
+}
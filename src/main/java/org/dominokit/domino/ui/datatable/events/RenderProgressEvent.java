@@ -0,0 +1,27 @@
+package org.dominokit.domino.ui.datatable.events;
+
+public class RenderProgressEvent implements TableEvent {
+
+    public static final String RENDER_PROGRESS = "table-render-progress";
+
+    private final int renderedCount;
+    private final int totalCount;
+
+    public RenderProgressEvent(int renderedCount, int totalCount) {
+        this.renderedCount = renderedCount;
+        this.totalCount = totalCount;
+    }
+
+    @Override
+    public String getType() {
+        return RENDER_PROGRESS;
+    }
+
+    public int getRenderedCount() {
+        return renderedCount;
+    }
+
+    public int getTotalCount() {
+        return totalCount;
+    }
+}
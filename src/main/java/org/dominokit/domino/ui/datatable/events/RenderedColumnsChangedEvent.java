@@ -0,0 +1,25 @@
+package org.dominokit.domino.ui.datatable.events;
+
+/**
+ * Fired when the number of cells rendered per row changes because the window of the virtual columns moved, cells
+ * spanning the whole row update their colspan with it.
+ */
+public class RenderedColumnsChangedEvent implements TableEvent {
+
+    public static final String RENDERED_COLUMNS_CHANGED = "table-rendered-columns-changed";
+
+    private final int renderedColumnsCount;
+
+    public RenderedColumnsChangedEvent(int renderedColumnsCount) {
+        this.renderedColumnsCount = renderedColumnsCount;
+    }
+
+    @Override
+    public String getType() {
+        return RENDERED_COLUMNS_CHANGED;
+    }
+
+    public int getRenderedColumnsCount() {
+        return renderedColumnsCount;
+    }
+}
@@ -0,0 +1,36 @@
+package org.dominokit.domino.ui.datatable.events;
+
+public class RowsFilteredEvent implements TableEvent {
+
+    public static final String ROWS_FILTERED = "data-table-rows-filtered";
+
+    private final int visibleCount;
+    private final int filteredCount;
+    private final int changedCount;
+
+    public RowsFilteredEvent(int visibleCount, int filteredCount, int changedCount) {
+        this.visibleCount = visibleCount;
+        this.filteredCount = filteredCount;
+        this.changedCount = changedCount;
+    }
+
+    @Override
+    public String getType() {
+        return ROWS_FILTERED;
+    }
+
+    public int getVisibleCount() {
+        return visibleCount;
+    }
+
+    public int getFilteredCount() {
+        return filteredCount;
+    }
+
+    /**
+     * @return the number of rows that were shown or hidden by the filter
+     */
+    public int getChangedCount() {
+        return changedCount;
+    }
+}
@@ -21,6 +21,10 @@ public class SimplePaginationPlugin<T> implements DataTablePlugin<T> {
                 .gotoPage(1);
     }
 
+    @Override
+    public void registerListeners(DataTable<T> dataTable) {
+    }
+
     @Override
     public void onAfterAddTable(DataTable<T> dataTable) {
         dataTable.asElement()
@@ -3,24 +3,38 @@ package org.dominokit.domino.ui.datatable.events;
 import org.dominokit.domino.ui.datatable.ColumnConfig;
 import org.dominokit.domino.ui.datatable.plugins.SortDirection;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 public class SortEvent<T> implements TableEvent {
 
     public static final String SORT_EVENT = "table-sort";
 
-    private final SortDirection sortDirection;
-    private final ColumnConfig<T> columnConfig;
+    private final List<SortKey<T>> sortKeys;
 
     public SortEvent(SortDirection sortDirection, ColumnConfig<T> columnConfig) {
-        this.sortDirection = sortDirection;
-        this.columnConfig = columnConfig;
+        this.sortKeys = Collections.singletonList(new SortKey<>(columnConfig, sortDirection));
+    }
+
+    public SortEvent(List<SortKey<T>> sortKeys) {
+        this.sortKeys = Collections.unmodifiableList(new ArrayList<>(sortKeys));
     }
 
     public SortDirection getSortDirection() {
-        return sortDirection;
+        return sortKeys.get(0).getSortDirection();
     }
 
     public ColumnConfig<T> getColumnConfig() {
-        return columnConfig;
+        return sortKeys.get(0).getColumnConfig();
+    }
+
+    /**
+     * @return the sort keys in priority order, the first key is the same column and direction returned by
+     * {@link #getColumnConfig()} and {@link #getSortDirection()}
+     */
+    public List<SortKey<T>> getSortKeys() {
+        return sortKeys;
     }
 
     @Override
@@ -0,0 +1,39 @@
+package org.dominokit.domino.ui.datatable.events;
+
+import org.dominokit.domino.ui.datatable.ColumnConfig;
+import org.dominokit.domino.ui.datatable.plugins.SortDirection;
+
+import java.util.Objects;
+
+public class SortKey<T> {
+
+    private final ColumnConfig<T> columnConfig;
+    private final SortDirection sortDirection;
+
+    public SortKey(ColumnConfig<T> columnConfig, SortDirection sortDirection) {
+        this.columnConfig = columnConfig;
+        this.sortDirection = sortDirection;
+    }
+
+    public ColumnConfig<T> getColumnConfig() {
+        return columnConfig;
+    }
+
+    public SortDirection getSortDirection() {
+        return sortDirection;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SortKey<?> sortKey = (SortKey<?>) o;
+        return Objects.equals(columnConfig.getName(), sortKey.columnConfig.getName()) &&
+                sortDirection == sortKey.sortDirection;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(columnConfig.getName(), sortDirection);
+    }
+}
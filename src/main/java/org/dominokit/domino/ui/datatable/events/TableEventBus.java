@@ -0,0 +1,147 @@
+package org.dominokit.domino.ui.datatable.events;
+
+import java.util.*;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Dispatches the events of a data table. Handlers subscribe to a concrete event class and only receive events of that
+ * exact class, listeners can still subscribe by event type name or to all the events with {@link #ANY}.
+ * <p>
+ * Subscribers are kept in arrays that are copied on subscribe and unsubscribe, so firing an event only iterates the
+ * arrays resolved for its class and type without allocating.
+ */
+public class TableEventBus {
+
+    public static final String ANY = "*";
+
+    private static final TableEventHandler[] NO_HANDLERS = new TableEventHandler[0];
+    private static final TableEventListener[] NO_LISTENERS = new TableEventListener[0];
+
+    private final Map<Class<?>, TableEventHandler[]> handlers = new HashMap<>();
+    private final Map<String, TableEventListener[]> listeners = new HashMap<>();
+    private TableEventListener[] anyListeners = NO_LISTENERS;
+    private final Map<String, int[]> dispatchCounts = new HashMap<>();
+
+    public <E extends TableEvent> TableEventBus addHandler(Class<E> eventClass, TableEventHandler<E> handler) {
+        TableEventHandler[] current = handlers.getOrDefault(eventClass, NO_HANDLERS);
+        TableEventHandler[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = handler;
+        handlers.put(eventClass, updated);
+        return this;
+    }
+
+    public <E extends TableEvent> TableEventBus removeHandler(Class<E> eventClass, TableEventHandler<E> handler) {
+        TableEventHandler[] current = handlers.get(eventClass);
+        if (nonNull(current)) {
+            TableEventHandler[] updated = without(current, handler, NO_HANDLERS);
+            if (updated.length == 0) {
+                handlers.remove(eventClass);
+            } else {
+                handlers.put(eventClass, updated);
+            }
+        }
+        return this;
+    }
+
+    public TableEventBus addListener(String type, TableEventListener listener) {
+        if (ANY.equals(type)) {
+            anyListeners = with(anyListeners, listener);
+        } else {
+            listeners.put(type, with(listeners.getOrDefault(type, NO_LISTENERS), listener));
+        }
+        return this;
+    }
+
+    public TableEventBus removeListener(String type, TableEventListener listener) {
+        if (ANY.equals(type)) {
+            anyListeners = without(anyListeners, listener, NO_LISTENERS);
+        } else if (listeners.containsKey(type)) {
+            TableEventListener[] updated = without(listeners.get(type), listener, NO_LISTENERS);
+            if (updated.length == 0) {
+                listeners.remove(type);
+            } else {
+                listeners.put(type, updated);
+            }
+        }
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void fire(TableEvent event) {
+        TableEventHandler[] eventHandlers = handlers.get(event.getClass());
+        TableEventListener[] typeListeners = listeners.get(event.getType());
+        TableEventListener[] currentAnyListeners = anyListeners;
+
+        int[] counts = dispatchCounts.get(event.getType());
+        if (isNull(counts)) {
+            counts = new int[2];
+            dispatchCounts.put(event.getType(), counts);
+        }
+        counts[0]++;
+
+        if (nonNull(eventHandlers)) {
+            counts[1] += eventHandlers.length;
+            for (TableEventHandler handler : eventHandlers) {
+                handler.onEvent(event);
+            }
+        }
+        if (nonNull(typeListeners)) {
+            counts[1] += typeListeners.length;
+            for (TableEventListener listener : typeListeners) {
+                listener.handleEvent(event);
+            }
+        }
+        counts[1] += currentAnyListeners.length;
+        for (TableEventListener listener : currentAnyListeners) {
+            listener.handleEvent(event);
+        }
+    }
+
+    /**
+     * @param type the event type name
+     * @return the number of events of the type fired since the counts were reset
+     */
+    public int getFiredCount(String type) {
+        int[] counts = dispatchCounts.get(type);
+        return nonNull(counts) ? counts[0] : 0;
+    }
+
+    /**
+     * @param type the event type name
+     * @return the number of handler and listener calls made for events of the type since the counts were reset
+     */
+    public int getDeliveredCount(String type) {
+        int[] counts = dispatchCounts.get(type);
+        return nonNull(counts) ? counts[1] : 0;
+    }
+
+    public Set<String> getDispatchedTypes() {
+        return Collections.unmodifiableSet(dispatchCounts.keySet());
+    }
+
+    public void resetDispatchCounts() {
+        dispatchCounts.clear();
+    }
+
+    private static TableEventListener[] with(TableEventListener[] current, TableEventListener listener) {
+        TableEventListener[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        return updated;
+    }
+
+    private static <L> L[] without(L[] current, Object subscriber, L[] empty) {
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == subscriber) {
+                if (current.length == 1) {
+                    return empty;
+                }
+                L[] updated = Arrays.copyOf(current, current.length - 1);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                return updated;
+            }
+        }
+        return current;
+    }
+}
@@ -0,0 +1,6 @@
+package org.dominokit.domino.ui.datatable.events;
+
+@FunctionalInterface
+public interface TableEventHandler<E extends TableEvent> {
+    void onEvent(E event);
+}
@@ -0,0 +1,33 @@
+package org.dominokit.domino.ui.datatable.events;
+
+public class VisibleRangeEvent implements TableEvent {
+
+    public static final String VISIBLE_RANGE = "data-table-visible-range";
+
+    private final int firstVisibleIndex;
+    private final int lastVisibleIndex;
+
+    public VisibleRangeEvent(int firstVisibleIndex, int lastVisibleIndex) {
+        this.firstVisibleIndex = firstVisibleIndex;
+        this.lastVisibleIndex = lastVisibleIndex;
+    }
+
+    @Override
+    public String getType() {
+        return VISIBLE_RANGE;
+    }
+
+    /**
+     * @return the index of the first record with a row visible in the table body, -1 when no row is visible
+     */
+    public int getFirstVisibleIndex() {
+        return firstVisibleIndex;
+    }
+
+    /**
+     * @return the index of the last record with a row visible in the table body, -1 when no row is visible
+     */
+    public int getLastVisibleIndex() {
+        return lastVisibleIndex;
+    }
+}
@@ -0,0 +1,73 @@
+package org.dominokit.domino.ui.datatable.export;
+
+import elemental2.dom.Blob;
+import elemental2.dom.BlobPropertyBag;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Writes the export into a {@link Blob} built incrementally, the written chunks are folded into the blob every few
+ * chunks so the strings of the earlier chunks can be released while the export runs.
+ */
+public class BlobExportSink implements ExportSink {
+
+    private final String type;
+    private final int foldEvery;
+    private final List<String> parts = new ArrayList<>();
+    private Blob blob;
+
+    public BlobExportSink() {
+        this("text/csv;charset=utf-8");
+    }
+
+    public BlobExportSink(String type) {
+        this(type, 16);
+    }
+
+    public BlobExportSink(String type, int foldEvery) {
+        this.type = type;
+        this.foldEvery = foldEvery;
+    }
+
+    @Override
+    public void write(String chunk) {
+        parts.add(chunk);
+        if (parts.size() >= foldEvery) {
+            fold();
+        }
+    }
+
+    @Override
+    public void close() {
+        fold();
+    }
+
+    private void fold() {
+        if (parts.isEmpty() && nonNull(blob)) {
+            return;
+        }
+        int offset = nonNull(blob) ? 1 : 0;
+        Blob.ConstructorBlobPartsArrayUnionType[] blobParts = new Blob.ConstructorBlobPartsArrayUnionType[parts.size() + offset];
+        if (nonNull(blob)) {
+            blobParts[0] = Blob.ConstructorBlobPartsArrayUnionType.of(blob);
+        }
+        for (int i = 0; i < parts.size(); i++) {
+            blobParts[i + offset] = Blob.ConstructorBlobPartsArrayUnionType.of(parts.get(i));
+        }
+        BlobPropertyBag options = BlobPropertyBag.create();
+        options.setType(type);
+        blob = new Blob(blobParts, options);
+        parts.clear();
+    }
+
+    /**
+     * @return the blob with all the chunks written so far, complete once the sink is closed
+     */
+    public Blob getBlob() {
+        fold();
+        return blob;
+    }
+}
@@ -0,0 +1,220 @@
+package org.dominokit.domino.ui.datatable.export;
+
+import org.dominokit.domino.ui.datatable.ColumnConfig;
+import org.dominokit.domino.ui.datatable.DataTable;
+import org.dominokit.domino.ui.datatable.store.FilteredRecordsProvider;
+import org.gwtproject.timer.client.Timer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Exports records to CSV in chunks, the records of a chunk are serialized into a single string written to an
+ * {@link ExportSink} and the next chunk runs in a later task so the page stays responsive. Columns are serialized
+ * with the export values declared on the {@link ColumnConfig}s, columns without an export value are not exported.
+ */
+public class CsvExporter<T> {
+
+    private final List<ColumnConfig<T>> columns = new ArrayList<>();
+    private String delimiter = ",";
+    private String lineSeparator = "\r\n";
+    private boolean includeHeader = true;
+    private int chunkSize = 1000;
+    private ChunkScheduler chunkScheduler = task -> new Timer() {
+        @Override
+        public void run() {
+            task.run();
+        }
+    }.schedule(0);
+
+    public static <T> CsvExporter<T> create(List<ColumnConfig<T>> columns) {
+        return new CsvExporter<>(columns);
+    }
+
+    /**
+     * @return an exporter for the columns of the table that declare an export value
+     */
+    public static <T> CsvExporter<T> forTable(DataTable<T> dataTable) {
+        return new CsvExporter<>(dataTable.getTableConfig().getColumns());
+    }
+
+    public CsvExporter(List<ColumnConfig<T>> columns) {
+        columns.stream()
+                .filter(column -> nonNull(column.getExportValue()))
+                .forEach(this.columns::add);
+    }
+
+    /**
+     * Exports the current view of a local store, the records matching its search in its sort order. The view is
+     * copied when the export starts so searching or sorting the table during the export does not change it.
+     *
+     * @param store    the store of the table
+     * @param sink     receives the serialized chunks, closed when the export completes
+     * @param listener notified of the progress
+     * @return the running export
+     */
+    public Export export(FilteredRecordsProvider<T> store, ExportSink sink, ExportListener listener) {
+        return export(store.getFilteredRecords(), sink, listener);
+    }
+
+    public Export export(FilteredRecordsProvider<T> store, ExportSink sink) {
+        return export(store, sink, null);
+    }
+
+    /**
+     * Starts exporting the records, the first chunk is written right away.
+     *
+     * @param records  the records to export
+     * @param sink     receives the serialized chunks, closed when the export completes
+     * @param listener notified of the progress
+     * @return the running export
+     */
+    public Export export(List<T> records, ExportSink sink, ExportListener listener) {
+        Export export = new Export(records, sink, nonNull(listener) ? listener : new ExportListener() {
+        });
+        export.start();
+        return export;
+    }
+
+    public Export export(List<T> records, ExportSink sink) {
+        return export(records, sink, null);
+    }
+
+    private String header() {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                line.append(delimiter);
+            }
+            ColumnConfig<T> column = columns.get(i);
+            appendValue(line, nonNull(column.getTitle()) ? column.getTitle() : column.getName());
+        }
+        return line.append(lineSeparator).toString();
+    }
+
+    private void appendRecord(StringBuilder output, T record) {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                output.append(delimiter);
+            }
+            appendValue(output, columns.get(i).getExportValue().extract(record));
+        }
+        output.append(lineSeparator);
+    }
+
+    private void appendValue(StringBuilder output, Object value) {
+        if (isNull(value)) {
+            return;
+        }
+        String text = String.valueOf(value);
+        if (text.contains(delimiter) || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            output.append('"').append(text.replace("\"", "\"\"")).append('"');
+        } else {
+            output.append(text);
+        }
+    }
+
+    public CsvExporter<T> setDelimiter(String delimiter) {
+        this.delimiter = delimiter;
+        return this;
+    }
+
+    public CsvExporter<T> setLineSeparator(String lineSeparator) {
+        this.lineSeparator = lineSeparator;
+        return this;
+    }
+
+    public CsvExporter<T> setIncludeHeader(boolean includeHeader) {
+        this.includeHeader = includeHeader;
+        return this;
+    }
+
+    public CsvExporter<T> setChunkSize(int chunkSize) {
+        this.chunkSize = Math.max(1, chunkSize);
+        return this;
+    }
+
+    /**
+     * @param chunkScheduler runs the next chunk, the default yields to the browser with a zero delay timer, running
+     *                       the task directly exports synchronously
+     * @return same CsvExporter instance
+     */
+    public CsvExporter<T> setChunkScheduler(ChunkScheduler chunkScheduler) {
+        this.chunkScheduler = chunkScheduler;
+        return this;
+    }
+
+    @FunctionalInterface
+    public interface ChunkScheduler {
+        void schedule(Runnable task);
+    }
+
+    public class Export {
+        private final List<T> records;
+        private final ExportSink sink;
+        private final ExportListener listener;
+        private int cursor = 0;
+        private boolean cancelled = false;
+        private boolean completed = false;
+
+        private Export(List<T> records, ExportSink sink, ExportListener listener) {
+            this.records = records;
+            this.sink = sink;
+            this.listener = listener;
+        }
+
+        private void start() {
+            if (includeHeader) {
+                sink.write(header());
+            }
+            exportChunk();
+        }
+
+        private void exportChunk() {
+            if (cancelled) {
+                return;
+            }
+            int end = Math.min(cursor + chunkSize, records.size());
+            StringBuilder chunk = new StringBuilder();
+            for (; cursor < end; cursor++) {
+                appendRecord(chunk, records.get(cursor));
+            }
+            if (chunk.length() > 0) {
+                sink.write(chunk.toString());
+            }
+            if (cursor < records.size()) {
+                listener.onProgress(cursor, records.size());
+                chunkScheduler.schedule(this::exportChunk);
+            } else {
+                completed = true;
+                sink.close();
+                listener.onCompleted(cursor);
+            }
+        }
+
+        /**
+         * Stops the export after the current chunk, the sink is not closed.
+         */
+        public void cancel() {
+            if (!cancelled && !completed) {
+                cancelled = true;
+                listener.onCancelled(cursor);
+            }
+        }
+
+        public boolean isCompleted() {
+            return completed;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        public int getExportedCount() {
+            return cursor;
+        }
+    }
+}
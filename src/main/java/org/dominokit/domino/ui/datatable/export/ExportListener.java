@@ -0,0 +1,13 @@
+package org.dominokit.domino.ui.datatable.export;
+
+public interface ExportListener {
+
+    default void onProgress(int exportedCount, int totalCount) {
+    }
+
+    default void onCompleted(int exportedCount) {
+    }
+
+    default void onCancelled(int exportedCount) {
+    }
+}
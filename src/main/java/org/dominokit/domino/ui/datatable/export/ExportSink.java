@@ -0,0 +1,11 @@
+package org.dominokit.domino.ui.datatable.export;
+
+/**
+ * Receives the serialized output of an export chunk by chunk.
+ */
+public interface ExportSink {
+
+    void write(String chunk);
+
+    void close();
+}
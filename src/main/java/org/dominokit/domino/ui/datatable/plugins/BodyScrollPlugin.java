@@ -1,23 +1,199 @@
 package org.dominokit.domino.ui.datatable.plugins;
 
+import com.google.gwt.animation.client.AnimationScheduler;
+import elemental2.dom.ClientRect;
 import elemental2.dom.HTMLTableSectionElement;
 import org.dominokit.domino.ui.datatable.DataTable;
+import org.dominokit.domino.ui.datatable.TableRow;
 import org.dominokit.domino.ui.datatable.events.BodyScrollEvent;
+import org.dominokit.domino.ui.datatable.events.VisibleRangeEvent;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Fires {@link BodyScrollEvent}s when the table body is scrolled near its top or bottom and a
+ * {@link VisibleRangeEvent} when the visible rows change. Scroll events are handled at most once per animation
+ * frame, a TOP or BOTTOM event is fired once when the edge is reached and again only after the body content changes.
+ */
 public class BodyScrollPlugin<T> implements DataTablePlugin<T> {
+
+    // the scroll events are immutable and fired often, the same two instances are reused
+    private static final BodyScrollEvent TOP_EVENT = new BodyScrollEvent(ScrollPosition.TOP);
+    private static final BodyScrollEvent BOTTOM_EVENT = new BodyScrollEvent(ScrollPosition.BOTTOM);
+
+    private DataTable<T> dataTable;
+    private int prefetchThreshold = 0;
+    private int prefetchRows = 0;
+    private boolean frameRequested = false;
+    private double topFiredAt = -1;
+    private double bottomFiredAt = -1;
+    private int firstVisibleIndex = -1;
+    private int lastVisibleIndex = -1;
+
+    @Override
+    public void registerListeners(DataTable<T> dataTable) {
+    }
+
     @Override
     public void onBodyAdded(DataTable<T> dataTable) {
+        this.dataTable = dataTable;
         HTMLTableSectionElement tbody = dataTable.bodyElement();
         tbody.addEventListener("scroll", evt -> {
-            if (tbody.scrollTop == 0) {
-                dataTable.fireTableEvent(new BodyScrollEvent(ScrollPosition.TOP));
-            }
-            if (tbody.offsetHeight + tbody.scrollTop == tbody.scrollHeight) {
-                dataTable.fireTableEvent(new BodyScrollEvent(ScrollPosition.BOTTOM));
+            if (!frameRequested) {
+                frameRequested = true;
+                AnimationScheduler.get().requestAnimationFrame(timestamp -> {
+                    frameRequested = false;
+                    onScroll(tbody);
+                });
             }
         });
+    }
+
+    private void onScroll(HTMLTableSectionElement tbody) {
+        double scrollTop = tbody.scrollTop;
+        double clientHeight = tbody.clientHeight;
+        double scrollHeight = tbody.scrollHeight;
+        double threshold = threshold();
+        double placeholderHeight = dataTable.getTopPlaceholderHeight();
 
+        // the fired edge state is keyed by the content size so that loading more rows re-arms the event
+        if (scrollTop <= placeholderHeight + threshold) {
+            double topState = scrollHeight + placeholderHeight;
+            if (topFiredAt != topState) {
+                topFiredAt = topState;
+                dataTable.fireTableEvent(TOP_EVENT);
+            }
+        } else {
+            topFiredAt = -1;
+        }
+
+        // one extra pixel absorbs fractional scroll positions on scaled displays
+        if (scrollTop + clientHeight >= scrollHeight - threshold - 1) {
+            if (bottomFiredAt != scrollHeight) {
+                bottomFiredAt = scrollHeight;
+                dataTable.fireTableEvent(BOTTOM_EVENT);
+            }
+        } else {
+            bottomFiredAt = -1;
+        }
+
+        updateVisibleRange(tbody);
+    }
+
+    private double threshold() {
+        if (prefetchRows > 0) {
+            double rowHeight = rowHeight();
+            if (rowHeight > 0) {
+                return prefetchRows * rowHeight;
+            }
+        }
+        return prefetchThreshold;
+    }
+
+    /**
+     * @return the height of a row, the body height cannot be divided by the rows count as it includes the spacers of
+     * virtual rows and the filtered rows take no space
+     */
+    private double rowHeight() {
+        if (dataTable.getTableConfig().isVirtualScrolling()) {
+            return dataTable.getTableConfig().getVirtualRowHeight();
+        }
+        for (TableRow<T> tableRow : dataTable.getTableRows()) {
+            if (!tableRow.isFiltered()) {
+                return tableRow.asElement().offsetHeight;
+            }
+        }
+        return 0;
+    }
+
+    private void updateVisibleRange(HTMLTableSectionElement tbody) {
+        List<TableRow<T>> tableRows = shownRows(dataTable.getTableRows());
+        int first = -1;
+        int last = -1;
+        if (!tableRows.isEmpty()) {
+            ClientRect bodyRect = tbody.getBoundingClientRect();
+            int firstPosition = firstRowEndingAfter(tableRows, bodyRect.top);
+            int lastPosition = firstRowStartingAfter(tableRows, bodyRect.bottom) - 1;
+            if (firstPosition < tableRows.size() && lastPosition >= firstPosition) {
+                first = tableRows.get(firstPosition).getIndex();
+                last = tableRows.get(lastPosition).getIndex();
+            }
+        }
+        if (first != firstVisibleIndex || last != lastVisibleIndex) {
+            firstVisibleIndex = first;
+            lastVisibleIndex = last;
+            dataTable.fireTableEvent(new VisibleRangeEvent(first, last));
+        }
+    }
+
+    /**
+     * @return the rows that are not filtered, the binary searches need rows laid out one after the other and a
+     * filtered row is not displayed and has an empty bounding rect
+     */
+    private List<TableRow<T>> shownRows(List<TableRow<T>> tableRows) {
+        for (TableRow<T> tableRow : tableRows) {
+            if (tableRow.isFiltered()) {
+                return tableRows.stream().filter(row -> !row.isFiltered()).collect(Collectors.toList());
+            }
+        }
+        return tableRows;
+    }
+
+    private int firstRowEndingAfter(List<TableRow<T>> tableRows, double position) {
+        int low = 0;
+        int high = tableRows.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (tableRows.get(middle).asElement().getBoundingClientRect().bottom <= position) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int firstRowStartingAfter(List<TableRow<T>> tableRows, double position) {
+        int low = 0;
+        int high = tableRows.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (tableRows.get(middle).asElement().getBoundingClientRect().top < position) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    public int getPrefetchThreshold() {
+        return prefetchThreshold;
+    }
+
+    /**
+     * @param prefetchThreshold distance in pixels from the top or bottom edge of the body at which the TOP and BOTTOM
+     *                          events are fired
+     * @return same BodyScrollPlugin instance
+     */
+    public BodyScrollPlugin<T> setPrefetchThreshold(int prefetchThreshold) {
+        this.prefetchThreshold = prefetchThreshold;
+        return this;
+    }
+
+    public int getPrefetchRows() {
+        return prefetchRows;
+    }
 
+    /**
+     * @param prefetchRows distance in rows from the top or bottom edge of the body at which the TOP and BOTTOM events
+     *                     are fired, takes precedence over the threshold in pixels when greater than zero
+     * @return same BodyScrollPlugin instance
+     */
+    public BodyScrollPlugin<T> setPrefetchRows(int prefetchRows) {
+        this.prefetchRows = prefetchRows;
+        return this;
     }
 
     public enum ScrollPosition{
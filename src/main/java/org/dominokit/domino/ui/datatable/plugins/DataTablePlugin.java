@@ -8,12 +8,21 @@ import org.dominokit.domino.ui.datatable.events.TableEventListener;
 
 public interface DataTablePlugin<T> extends TableEventListener {
 
+    /**
+     * Subscribes the plugin to the table events, by default the plugin receives all the events in {@link #handleEvent(TableEvent)}.
+     * Plugins that handle only some events should subscribe to them instead, and plugins that handle none should do nothing.
+     */
+    default void registerListeners(DataTable<T> dataTable) {
+        dataTable.addTableEventListner(DataTable.ANY, this);
+    }
+
     default void onBeforeAddTable(DataTable<T> dataTable){}
     default void onBeforeAddHeaders(DataTable<T> dataTable){}
     default void onHeaderAdded(DataTable<T> dataTable, ColumnConfig<T> column){}
     default void onBodyAdded(DataTable<T> dataTable){}
     default void onBeforeAddRow(DataTable<T> dataTable){}
     default void onRowAdded(DataTable<T> dataTable, TableRow<T> tableRow){}
+    default void onRowRemoved(DataTable<T> dataTable, TableRow<T> tableRow){}
     default void onAllRowsAdded(DataTable<T> dataTable, TableRow<T> tableRow){}
     default void onAfterAddTable(DataTable<T> dataTable){}
 
@@ -0,0 +1,135 @@
+package org.dominokit.domino.ui.datatable.plugins;
+
+import elemental2.dom.HTMLTableRowElement;
+import elemental2.dom.HTMLTableSectionElement;
+import elemental2.dom.Node;
+import elemental2.dom.Text;
+import org.dominokit.domino.ui.datatable.ColumnConfig;
+import org.dominokit.domino.ui.datatable.DataTable;
+import org.dominokit.domino.ui.datatable.TableRow;
+import org.dominokit.domino.ui.datatable.events.RenderedColumnsChangedEvent;
+import org.dominokit.domino.ui.datatable.events.TableDataUpdatedEvent;
+import org.dominokit.domino.ui.datatable.store.GroupAggregates;
+import org.dominokit.domino.ui.datatable.store.GroupAggregatesProvider;
+import org.dominokit.domino.ui.utils.ElementUtil;
+
+import java.util.*;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.jboss.gwt.elemento.core.Elements.*;
+
+/**
+ * Shows a header row before the first row of every group and a totals row in the table footer, the groups and the
+ * aggregates come from the store so nothing is computed by the plugin. The header rows are rebuilt from the rendered
+ * rows when the table data is updated, not supported with virtual scrolling.
+ */
+public class GroupingPlugin<T> implements DataTablePlugin<T> {
+
+    private final GroupAggregatesProvider<T> aggregatesProvider;
+    private final Map<String, String> columnsAggregations = new HashMap<>();
+    private final List<HTMLTableRowElement> headerRows = new ArrayList<>();
+    private GroupHeaderRenderer<T> groupHeaderRenderer = group -> new Text(group.getKey() + " (" + group.getCount() + ")");
+    private ValueFormatter valueFormatter = String::valueOf;
+    private HTMLTableSectionElement tfoot;
+    private DataTable<T> dataTable;
+
+    public GroupingPlugin(GroupAggregatesProvider<T> aggregatesProvider) {
+        this.aggregatesProvider = aggregatesProvider;
+    }
+
+    @Override
+    public void registerListeners(DataTable<T> dataTable) {
+        dataTable.addTableEventHandler(TableDataUpdatedEvent.class, event -> render())
+                .addTableEventHandler(RenderedColumnsChangedEvent.class, event -> render());
+    }
+
+    @Override
+    public void onAfterAddTable(DataTable<T> dataTable) {
+        this.dataTable = dataTable;
+        if (!columnsAggregations.isEmpty()) {
+            tfoot = tfoot().asElement();
+            dataTable.tableElement().appendChild(tfoot);
+        }
+        render();
+    }
+
+    private void render() {
+        if (isNull(dataTable)) {
+            return;
+        }
+        headerRows.forEach(HTMLTableRowElement::remove);
+        headerRows.clear();
+        if (aggregatesProvider.isGrouped()) {
+            renderGroupHeaders();
+        }
+        if (nonNull(tfoot)) {
+            renderTotals();
+        }
+    }
+
+    private void renderGroupHeaders() {
+        int columnsCount = dataTable.getTableConfig().getRenderedColumnsCount();
+        Object previousKey = null;
+        boolean first = true;
+        for (TableRow<T> tableRow : dataTable.getTableRows()) {
+            Object groupKey = aggregatesProvider.getGroupKey(tableRow.getRecord());
+            if (first || !Objects.equals(groupKey, previousKey)) {
+                GroupAggregates<T> group = aggregatesProvider.getGroupAggregates(groupKey);
+                if (nonNull(group)) {
+                    HTMLTableRowElement headerRow = tr().css("group-header-tr")
+                            .add(td().attr("colspan", columnsCount + "").add(groupHeaderRenderer.render(group)))
+                            .asElement();
+                    dataTable.bodyElement().insertBefore(headerRow, tableRow.asElement());
+                    headerRows.add(headerRow);
+                }
+            }
+            previousKey = groupKey;
+            first = false;
+        }
+    }
+
+    private void renderTotals() {
+        ElementUtil.clear(tfoot);
+        GroupAggregates<T> totals = aggregatesProvider.getTotals();
+        HTMLTableRowElement totalsRow = tr().css("totals-tr").asElement();
+        for (ColumnConfig<T> column : dataTable.getTableConfig().getColumns()) {
+            String aggregationName = columnsAggregations.get(column.getName());
+            Double value = nonNull(aggregationName) ? totals.getValue(aggregationName) : null;
+            totalsRow.appendChild(td().textContent(nonNull(value) ? valueFormatter.format(value) : "").asElement());
+        }
+        tfoot.appendChild(totalsRow);
+    }
+
+    /**
+     * Shows the value of an aggregation of the store totals in the footer cell of a column.
+     *
+     * @param columnName      the name of the column
+     * @param aggregationName the name of the aggregation added to the store
+     * @return same GroupingPlugin instance
+     */
+    public GroupingPlugin<T> setColumnTotal(String columnName, String aggregationName) {
+        columnsAggregations.put(columnName, aggregationName);
+        return this;
+    }
+
+    public GroupingPlugin<T> setGroupHeaderRenderer(GroupHeaderRenderer<T> groupHeaderRenderer) {
+        this.groupHeaderRenderer = groupHeaderRenderer;
+        return this;
+    }
+
+    public GroupingPlugin<T> setValueFormatter(ValueFormatter valueFormatter) {
+        this.valueFormatter = valueFormatter;
+        return this;
+    }
+
+    @FunctionalInterface
+    public interface GroupHeaderRenderer<T> {
+        Node render(GroupAggregates<T> group);
+    }
+
+    @FunctionalInterface
+    public interface ValueFormatter {
+        String format(Double value);
+    }
+}
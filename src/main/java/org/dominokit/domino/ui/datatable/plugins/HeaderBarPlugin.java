@@ -58,6 +58,10 @@ public class HeaderBarPlugin<T> implements DataTablePlugin<T> {
         Style.of(actionsBarColumn).setMarginBottom("0px");
     }
 
+    @Override
+    public void registerListeners(DataTable<T> dataTable) {
+    }
+
     @Override
     public void onBeforeAddTable(DataTable<T> dataTable) {
         actionElements.forEach(actionElement -> actionsBar.appendChild(li().add(actionElement.asElement(dataTable)).asElement()));
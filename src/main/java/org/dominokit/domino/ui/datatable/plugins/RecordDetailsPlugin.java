@@ -4,19 +4,29 @@ import elemental2.dom.HTMLDivElement;
 import elemental2.dom.HTMLElement;
 import elemental2.dom.HTMLTableCellElement;
 import elemental2.dom.HTMLTableRowElement;
+import elemental2.dom.Node;
 import org.dominokit.domino.ui.button.IconButton;
 import org.dominokit.domino.ui.datatable.CellRenderer;
 import org.dominokit.domino.ui.datatable.ColumnConfig;
 import org.dominokit.domino.ui.datatable.DataTable;
 import org.dominokit.domino.ui.datatable.TableRow;
 import org.dominokit.domino.ui.datatable.events.ExpandRecordEvent;
-import org.dominokit.domino.ui.datatable.events.TableEvent;
+import org.dominokit.domino.ui.datatable.events.RenderedColumnsChangedEvent;
+import org.dominokit.domino.ui.datatable.events.TableDataUpdatedEvent;
 import org.dominokit.domino.ui.icons.Icon;
 import org.dominokit.domino.ui.icons.Icons;
 import org.dominokit.domino.ui.style.Style;
 import org.dominokit.domino.ui.utils.ElementUtil;
+import org.dominokit.domino.ui.utils.LruCache;
 import org.jboss.gwt.elemento.core.IsElement;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.jboss.gwt.elemento.core.Elements.*;
 
@@ -29,8 +39,14 @@ public class RecordDetailsPlugin<T> implements DataTablePlugin<T> {
     private HTMLTableCellElement td = td().css("details-td").add(element).asElement();
     private HTMLTableRowElement tr = tr().css("details-tr").add(td).asElement();
 
+    private final DetailsRow sharedRow = new DetailsRow(tr, td, element);
+
     private final CellRenderer<T> cellRenderer;
-    private DetailsButtonElement buttonElement;
+    private final Map<DetailsButtonElement, DetailsRow> expandedRows = new LinkedHashMap<>();
+    private final LruCache<Object, Node> detailsCache = new LruCache<>(10);
+    private DetailsLoader<T> detailsLoader;
+    private Supplier<Node> loadingElementSupplier = () -> div().css("details-loading").textContent("Loading...").asElement();
+    private boolean multiExpand = false;
     private DataTable<T> dataTable;
 
 
@@ -48,13 +64,18 @@ public class RecordDetailsPlugin<T> implements DataTablePlugin<T> {
     public void onBeforeAddHeaders(DataTable<T> dataTable) {
         this.dataTable = dataTable;
         ColumnConfig<T> column = ColumnConfig.<T>create("data-table-details-cm")
+                .setPinned(true)
                 .setSortable(false)
                 .setWidth("60px")
                 .setFixed(true)
                 .setCellRenderer(cell -> {
                     applyStyles(cell);
-                    DetailsButtonElement<T> detailsButtonElement = new DetailsButtonElement<>(expandIcon, collapseIcon, RecordDetailsPlugin.this, cell);
-                    cell.getTableRow().addMetaObject(detailsButtonElement);
+                    // a refreshed row renders its cells again, its button is reused so the details stay bound to it
+                    DetailsButtonElement<T> detailsButtonElement = cell.getTableRow().getMetaObject(RECORD_DETAILS_BUTTON);
+                    if (isNull(detailsButtonElement) || detailsButtonElement.getCellInfo() != cell) {
+                        detailsButtonElement = new DetailsButtonElement<>(expandIcon, collapseIcon, RecordDetailsPlugin.this, cell);
+                        cell.getTableRow().addMetaObject(detailsButtonElement);
+                    }
                     applyStyles(cell);
                     return detailsButtonElement.asElement();
                 })
@@ -74,10 +95,30 @@ public class RecordDetailsPlugin<T> implements DataTablePlugin<T> {
     }
 
     @Override
-    public void handleEvent(TableEvent event) {
-        if (ExpandRecordEvent.EXPAND_RECORD.equals(event.getType())) {
-            expandRow((ExpandRecordEvent<T>) event);
-        }
+    @SuppressWarnings("unchecked")
+    public void registerListeners(DataTable<T> dataTable) {
+        dataTable.addTableEventHandler(ExpandRecordEvent.class, event -> expandRow((ExpandRecordEvent<T>) event))
+                .addTableEventHandler(TableDataUpdatedEvent.class, event -> onDataUpdated())
+                .addTableEventHandler(RenderedColumnsChangedEvent.class, event -> expandedRows.values()
+                        .forEach(detailsRow -> detailsRow.td.setAttribute("colspan", event.getRenderedColumnsCount() + "")));
+    }
+
+    private void onDataUpdated() {
+        new ArrayList<>(expandedRows.entrySet()).forEach(entry -> {
+            HTMLTableRowElement rowElement = entry.getKey().getCellInfo().getTableRow().asElement();
+            if (dataTable.bodyElement().contains(rowElement)) {
+                dataTable.bodyElement().insertBefore(entry.getValue().tr, rowElement.nextSibling);
+            } else {
+                entry.getKey().collapse();
+            }
+        });
+    }
+
+    @Override
+    public void onRowRemoved(DataTable<T> dataTable, TableRow<T> tableRow) {
+        new ArrayList<>(expandedRows.keySet()).stream()
+                .filter(button -> button.getCellInfo().getTableRow() == tableRow)
+                .forEach(DetailsButtonElement::collapse);
     }
 
     private void expandRow(ExpandRecordEvent<T> event) {
@@ -103,6 +144,67 @@ public class RecordDetailsPlugin<T> implements DataTablePlugin<T> {
     public void setupColumn(ColumnConfig<T> column) {
     }
 
+    public boolean isMultiExpand() {
+        return multiExpand;
+    }
+
+    /**
+     * @param multiExpand true to allow the details of many records to be expanded at the same time, expanding a record
+     *                    leaves the details of the other expanded records untouched
+     * @return same RecordDetailsPlugin instance
+     */
+    public RecordDetailsPlugin<T> setMultiExpand(boolean multiExpand) {
+        this.multiExpand = multiExpand;
+        return this;
+    }
+
+    public int getDetailsCacheSize() {
+        return detailsCache.getMaxSize();
+    }
+
+    /**
+     * The rendered details of the most recently expanded records are kept, expanding a record again reuses its details
+     * element. Records are identified by the table record key provider when there is one.
+     *
+     * @param detailsCacheSize the maximum number of cached details elements, 0 to render the details on every expand
+     * @return same RecordDetailsPlugin instance
+     */
+    public RecordDetailsPlugin<T> setDetailsCacheSize(int detailsCacheSize) {
+        detailsCache.setMaxSize(detailsCacheSize);
+        return this;
+    }
+
+    /**
+     * Removes the cached details of a record, to be used when the record changes.
+     *
+     * @param record the changed record
+     */
+    public void invalidateDetails(T record) {
+        detailsCache.remove(detailsKey(record));
+    }
+
+    public void clearDetailsCache() {
+        detailsCache.clear();
+    }
+
+    /**
+     * @param detailsLoader loads the details asynchronously instead of rendering them with the cell renderer
+     * @return same RecordDetailsPlugin instance
+     */
+    public RecordDetailsPlugin<T> setDetailsLoader(DetailsLoader<T> detailsLoader) {
+        this.detailsLoader = detailsLoader;
+        return this;
+    }
+
+    /**
+     * @param loadingElementSupplier supplies the element shown while the details loader runs
+     * @return same RecordDetailsPlugin instance
+     */
+    public RecordDetailsPlugin<T> setLoadingElement(Supplier<Node> loadingElementSupplier) {
+        this.loadingElementSupplier = loadingElementSupplier;
+        return this;
+    }
+
     public static class DetailsButtonElement<T> implements IsElement<HTMLElement>, TableRow.RowMetaObject {
         private final IconButton button;
         private final CellRenderer.CellInfo<T> cellInfo;
@@ -146,7 +248,11 @@ public class RecordDetailsPlugin<T> implements DataTablePlugin<T> {
         public void collapse() {
             button.setIcon(expandIcon.copy());
             expanded = false;
-            recordDetailsPlugin.clear();
+            recordDetailsPlugin.clear(this);
+        }
+
+        public boolean isExpanded() {
+            return expanded;
         }
 
         @Override
@@ -160,21 +266,82 @@ public class RecordDetailsPlugin<T> implements DataTablePlugin<T> {
         }
     }
 
-    private void clear() {
-        tr.remove();
-        ElementUtil.clear(element);
-        this.buttonElement = null;
+    private void clear(DetailsButtonElement buttonElement) {
+        DetailsRow detailsRow = expandedRows.remove(buttonElement);
+        if (nonNull(detailsRow)) {
+            detailsRow.tr.remove();
+            ElementUtil.clear(detailsRow.element);
+        }
     }
 
+    @SuppressWarnings("unchecked")
     private void setExpanded(DetailsButtonElement buttonElement) {
-        if (nonNull(this.buttonElement)) {
-            this.buttonElement.collapse();
-            clear();
+        if (expandedRows.containsKey(buttonElement)) {
+            return;
+        }
+        if (!multiExpand) {
+            new ArrayList<>(expandedRows.keySet()).forEach(DetailsButtonElement::collapse);
+        }
+        DetailsRow detailsRow = multiExpand ? new DetailsRow() : sharedRow;
+        expandedRows.put(buttonElement, detailsRow);
+        ElementUtil.builderFor(detailsRow.td).attr("colspan", dataTable.getTableConfig().getRenderedColumnsCount() + "");
+        dataTable.bodyElement().insertBefore(detailsRow.tr, buttonElement.getCellInfo().getTableRow().asElement().nextSibling);
+
+        CellRenderer.CellInfo<T> cellInfo = buttonElement.getCellInfo();
+        Object key = detailsKey(cellInfo.getRecord());
+        Node cached = detailsCache.get(key);
+        if (nonNull(cached)) {
+            detailsRow.element.appendChild(cached);
+        } else if (isNull(detailsLoader)) {
+            detailsRow.element.appendChild(cacheDetails(key, cellRenderer.asElement(cellInfo)));
+        } else {
+            detailsRow.element.appendChild(loadingElementSupplier.get());
+            detailsLoader.load(cellInfo, details -> {
+                cacheDetails(key, details);
+                // the details may have been collapsed or expanded again while loading
+                if (expandedRows.get(buttonElement) == detailsRow) {
+                    ElementUtil.clear(detailsRow.element);
+                    detailsRow.element.appendChild(details);
+                }
+            });
+        }
+    }
+
+    private Node cacheDetails(Object key, Node details) {
+        if (detailsCache.getMaxSize() > 0) {
+            detailsCache.put(key, details);
+        }
+        return details;
+    }
+
+    private Object detailsKey(T record) {
+        if (nonNull(dataTable.getTableConfig().getRecordKeyProvider())) {
+            return dataTable.getTableConfig().getRecordKeyProvider().getKey(record);
+        }
+        return record;
+    }
+
+    @FunctionalInterface
+    public interface DetailsLoader<T> {
+        void load(CellRenderer.CellInfo<T> cellInfo, Consumer<Node> detailsCallback);
+    }
+
+    private static class DetailsRow {
+        private final HTMLTableRowElement tr;
+        private final HTMLTableCellElement td;
+        private final HTMLDivElement element;
+
+        private DetailsRow() {
+            this.element = div().asElement();
+            this.td = td().css("details-td").add(element).asElement();
+            this.tr = tr().css("details-tr").add(td).asElement();
+        }
+
+        private DetailsRow(HTMLTableRowElement tr, HTMLTableCellElement td, HTMLDivElement element) {
+            this.tr = tr;
+            this.td = td;
+            this.element = element;
         }
-        this.buttonElement = buttonElement;
-        ElementUtil.builderFor(td).attr("colspan", dataTable.getTableConfig().getColumns().size() + "");
-        element.appendChild(cellRenderer.asElement(buttonElement.getCellInfo()));
-        dataTable.bodyElement().insertBefore(tr, buttonElement.getCellInfo().getTableRow().asElement().nextSibling);
     }
 
 }
@@ -13,9 +13,14 @@ public class RowMarkerPlugin<T> implements DataTablePlugin<T> {
 
     private final MarkerColor<T> markerColor;
 
+    @Override
+    public void registerListeners(DataTable<T> dataTable) {
+    }
+
     @Override
     public void onBeforeAddHeaders(DataTable<T> dataTable) {
         dataTable.getTableConfig().insertColumnFirst(ColumnConfig.<T>create("data-table-marker-cm")
+                .setPinned(true)
                 .setSortable(false)
                 .setSortable(false)
                 .maxWidth("3px")
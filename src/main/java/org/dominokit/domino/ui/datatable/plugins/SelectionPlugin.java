@@ -1,6 +1,7 @@
 package org.dominokit.domino.ui.datatable.plugins;
 
 import elemental2.dom.HTMLElement;
+import elemental2.dom.MouseEvent;
 import elemental2.dom.Node;
 import elemental2.dom.Text;
 import jsinterop.base.Js;
@@ -13,16 +14,18 @@ import org.dominokit.domino.ui.icons.Icon;
 import org.dominokit.domino.ui.icons.Icons;
 import org.dominokit.domino.ui.style.ColorScheme;
 import org.dominokit.domino.ui.style.Style;
-import org.dominokit.domino.ui.utils.Selectable;
 import org.jboss.gwt.elemento.core.IsElement;
 
 import static java.util.Objects.nonNull;
 
 public class SelectionPlugin<T> implements DataTablePlugin<T> {
 
+    private static final String SELECTION_CELL = "data-table-selection-cell";
+
     private ColorScheme colorScheme;
-    private Selectable<T> selectedRow;
     private HTMLElement singleSelectIndicator = Icons.ALL.check().asElement();
+    private int anchorIndex = -1;
+    private boolean rangeSelection = false;
 
     public SelectionPlugin() {
     }
@@ -40,9 +43,30 @@ public class SelectionPlugin<T> implements DataTablePlugin<T> {
         this(colorScheme, singleSelectIndicator.asElement());
     }
 
+    @Override
+    public void registerListeners(DataTable<T> dataTable) {
+    }
+
+    @Override
+    public void onBodyAdded(DataTable<T> dataTable) {
+        if (!dataTable.getTableConfig().isMultiSelect()) {
+            // a single listener for the body, rows are recycled and redrawn so a listener per row would pile up
+            dataTable.bodyElement().addEventListener("click", evt -> {
+                Node target = Js.uncheckedCast(evt.target);
+                for (TableRow<T> tableRow : dataTable.getTableRows()) {
+                    if (tableRow.asElement().contains(target)) {
+                        tableRow.select();
+                        break;
+                    }
+                }
+            });
+        }
+    }
+
     @Override
     public void onBeforeAddHeaders(DataTable<T> dataTable) {
         dataTable.getTableConfig().insertColumnFirst(ColumnConfig.<T>create("data-table-select-cm")
+                .setPinned(true)
                 .setSortable(false)
                 .setWidth(dataTable.getTableConfig().isMultiSelect() ? "40px" : "45px")
                 .setFixed(true)
@@ -68,18 +92,24 @@ public class SelectionPlugin<T> implements DataTablePlugin<T> {
     }
 
     private Node createSingleSelectCell(DataTable<T> dataTable, CellRenderer.CellInfo<T> cell) {
+        SelectionCell selectionCell = cell.getTableRow().getMetaObject(SELECTION_CELL);
+        if (nonNull(selectionCell)) {
+            // a refreshed row renders its cells again, the handlers are only registered for the first rendering
+            Style.of(selectionCell.element).setDisplay(cell.getTableRow().isSelected() ? "inline-block" : "none");
+            return selectionCell.element;
+        }
         HTMLElement clonedIndicator = Js.uncheckedCast(singleSelectIndicator.cloneNode(true));
-        cell.getTableRow().asElement().addEventListener("click", evt -> cell.getTableRow().select());
         cell.getTableRow().addSelectionHandler(selectable -> {
             if (selectable.isSelected()) {
-                if (nonNull(selectedRow)) {
-                    selectedRow.deselect();
-                }
+                // the selection model keeps the selected record, the rows are only its rendered views and may have
+                // been recycled for other records
+                dataTable.getSelectedItems().stream()
+                        .filter(tableRow -> tableRow != selectable)
+                        .forEach(TableRow::deselect);
                 Style.of(clonedIndicator).setDisplay("inline-block");
                 if (nonNull(colorScheme)) {
                     Style.of(((TableRow<T>) selectable).asElement()).css(colorScheme.lighten_5().getBackground());
                 }
-                selectedRow = selectable;
             } else {
                 Style.of(clonedIndicator).setDisplay("none");
                 if (nonNull(colorScheme)) {
@@ -88,11 +118,23 @@ public class SelectionPlugin<T> implements DataTablePlugin<T> {
             }
         });
         Style.of(clonedIndicator).setDisplay("none");
+        cell.getTableRow().addMetaObject(new SelectionCell(clonedIndicator, null));
         return clonedIndicator;
     }
 
     private Node createMultiSelectCell(DataTable<T> dataTable, CellRenderer.CellInfo<T> cell) {
+        SelectionCell selectionCell = cell.getTableRow().getMetaObject(SELECTION_CELL);
+        if (nonNull(selectionCell)) {
+            // a refreshed row renders its cells again, the handlers are only registered for the first rendering
+            if (cell.getTableRow().isSelected()) {
+                selectionCell.checkBox.check(true);
+            } else {
+                selectionCell.checkBox.uncheck(true);
+            }
+            return selectionCell.element;
+        }
         CheckBox checkBox = createCheckBox();
+        cell.getTableRow().addMetaObject(new SelectionCell(checkBox.asElement(), checkBox));
 
         cell.getTableRow().addSelectionHandler(selectable -> {
             if (selectable.isSelected()) {
@@ -108,8 +150,19 @@ public class SelectionPlugin<T> implements DataTablePlugin<T> {
             }
         });
 
+        checkBox.asElement().addEventListener("click", evt -> {
+            MouseEvent mouseEvent = Js.cast(evt);
+            rangeSelection = mouseEvent.shiftKey;
+        });
+
         checkBox.addChangeHandler(checked -> {
-            if (checked) {
+            boolean selectRange = rangeSelection && checked && anchorIndex >= 0;
+            rangeSelection = false;
+            int anchor = anchorIndex;
+            anchorIndex = cell.getTableRow().getIndex();
+            if (selectRange) {
+                dataTable.selectRange(anchor, cell.getTableRow().getIndex());
+            } else if (checked) {
                 cell.getTableRow().select();
                 if (nonNull(colorScheme)) {
                     Style.of(cell.getTableRow().asElement()).css(colorScheme.lighten_5().getBackground());
@@ -137,10 +190,10 @@ public class SelectionPlugin<T> implements DataTablePlugin<T> {
         });
 
         dataTable.addSelectionListener((selectedRows, selectedRecords) -> {
-            if (selectedRows.size() != dataTable.getTableRows().size()) {
-                checkBox.uncheck(true);
-            } else {
+            if (dataTable.getSelectionModel().isAllSelected()) {
                 checkBox.check(true);
+            } else {
+                checkBox.uncheck(true);
             }
         });
         return checkBox.asElement();
@@ -151,6 +204,21 @@ public class SelectionPlugin<T> implements DataTablePlugin<T> {
         return this;
     }
 
+    private static class SelectionCell implements TableRow.RowMetaObject {
+        private final HTMLElement element;
+        private final CheckBox checkBox;
+
+        private SelectionCell(HTMLElement element, CheckBox checkBox) {
+            this.element = element;
+            this.checkBox = checkBox;
+        }
+
+        @Override
+        public String getKey() {
+            return SELECTION_CELL;
+        }
+    }
+
     private CheckBox createCheckBox() {
         CheckBox checkBox = CheckBox.create();
         if (nonNull(colorScheme)) {
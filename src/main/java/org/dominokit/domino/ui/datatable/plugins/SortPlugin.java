@@ -1,57 +1,75 @@
 package org.dominokit.domino.ui.datatable.plugins;
 
 import elemental2.dom.HTMLElement;
+import elemental2.dom.MouseEvent;
+import jsinterop.base.Js;
 import org.dominokit.domino.ui.datatable.ColumnConfig;
 import org.dominokit.domino.ui.datatable.DataTable;
 import org.dominokit.domino.ui.datatable.events.SortEvent;
+import org.dominokit.domino.ui.datatable.events.SortKey;
 import org.dominokit.domino.ui.icons.Icons;
 import org.dominokit.domino.ui.style.Style;
 import org.dominokit.domino.ui.style.Styles;
 import org.dominokit.domino.ui.utils.ElementUtil;
 import org.jboss.gwt.elemento.core.EventType;
 
-import static java.util.Objects.isNull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import static org.jboss.gwt.elemento.core.Elements.span;
 
 public class SortPlugin<T> implements DataTablePlugin<T> {
 
-    private SortContainer currentContainer;
+    private final List<SortContainer> sortContainers = new ArrayList<>();
+
+    @Override
+    public void registerListeners(DataTable<T> dataTable) {
+    }
 
     @Override
     public void onHeaderAdded(DataTable<T> dataTable, ColumnConfig<T> column) {
         if (column.isSortable()) {
-            SortContainer sortContainer = new SortContainer(column.getName());
+            SortContainer sortContainer = new SortContainer(column);
 
             Style.of(column.getHeadElement()).css(Styles.cursor_pointer, Styles.disable_selection);
             column.contextMenu.appendChild(sortContainer.sortElement);
             Style.of(column.contextMenu).setDisplay("block");
             column.getHeadElement().addEventListener(EventType.click.getName(), evt -> {
+                MouseEvent mouseEvent = Js.cast(evt);
                 Style.of(sortContainer.sortElement)
                         .setProperty("right", "15px")
                         .setProperty("list-style", "none");
-                sortContainer.clear();
-                if (isNull(currentContainer)) {
-                    sortContainer.update(false);
+                boolean sorted = sortContainers.contains(sortContainer);
+                if (mouseEvent.shiftKey) {
+                    if (!sorted) {
+                        sortContainers.add(sortContainer);
+                    }
+                    sortContainer.update(sorted);
                 } else {
-                    currentContainer.clear();
-                    sortContainer.update(currentContainer.columnName.equals(sortContainer.columnName));
+                    boolean flip = sorted && sortContainers.size() == 1;
+                    sortContainers.forEach(SortContainer::clear);
+                    sortContainers.clear();
+                    sortContainers.add(sortContainer);
+                    sortContainer.update(flip);
                 }
-                currentContainer = sortContainer;
-                dataTable.fireTableEvent(new SortEvent<>(currentContainer.sortDirection, column));
+                dataTable.fireTableEvent(new SortEvent<>(sortContainers.stream()
+                        .map(container -> new SortKey<>(container.column, container.sortDirection))
+                        .collect(Collectors.toList())));
             });
         }
     }
 
     private class SortContainer {
-        private final String columnName;
+        private final ColumnConfig<T> column;
         private SortDirection sortDirection = SortDirection.DESC;
         private HTMLElement directionElement = Style.of(ElementUtil.builderFor(Icons.ALL.arrow_upward().asElement()).textContent("import_export")).css(Styles.font_15).asElement();
         private HTMLElement sortElement = span().css(Styles.pull_right).add(directionElement)
                 .style("min-width: 15px;")
                 .asElement();
 
-        public SortContainer(String columnName) {
-            this.columnName = columnName;
+        public SortContainer(ColumnConfig<T> column) {
+            this.column = column;
         }
 
         public void clear() {
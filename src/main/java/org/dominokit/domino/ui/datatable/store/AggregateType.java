@@ -0,0 +1,9 @@
+package org.dominokit.domino.ui.datatable.store;
+
+public enum AggregateType {
+    COUNT,
+    SUM,
+    MIN,
+    MAX,
+    AVG
+}
@@ -0,0 +1,55 @@
+package org.dominokit.domino.ui.datatable.store;
+
+/**
+ * Declares an aggregate computed for every group and for the totals of a local store, records with a null value are
+ * not aggregated.
+ */
+public class Aggregation<T> {
+
+    private final String name;
+    private final AggregateType type;
+    private final ValueExtractor<T> valueExtractor;
+
+    public Aggregation(String name, AggregateType type, ValueExtractor<T> valueExtractor) {
+        this.name = name;
+        this.type = type;
+        this.valueExtractor = valueExtractor;
+    }
+
+    public static <T> Aggregation<T> count(String name) {
+        return new Aggregation<>(name, AggregateType.COUNT, record -> 1);
+    }
+
+    public static <T> Aggregation<T> sum(String name, ValueExtractor<T> valueExtractor) {
+        return new Aggregation<>(name, AggregateType.SUM, valueExtractor);
+    }
+
+    public static <T> Aggregation<T> min(String name, ValueExtractor<T> valueExtractor) {
+        return new Aggregation<>(name, AggregateType.MIN, valueExtractor);
+    }
+
+    public static <T> Aggregation<T> max(String name, ValueExtractor<T> valueExtractor) {
+        return new Aggregation<>(name, AggregateType.MAX, valueExtractor);
+    }
+
+    public static <T> Aggregation<T> avg(String name, ValueExtractor<T> valueExtractor) {
+        return new Aggregation<>(name, AggregateType.AVG, valueExtractor);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public AggregateType getType() {
+        return type;
+    }
+
+    public ValueExtractor<T> getValueExtractor() {
+        return valueExtractor;
+    }
+
+    @FunctionalInterface
+    public interface ValueExtractor<T> {
+        Number getValue(T record);
+    }
+}
@@ -0,0 +1,200 @@
+package org.dominokit.domino.ui.datatable.store;
+
+import org.dominokit.domino.ui.utils.LruCache;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Wraps a {@link RecordsFetcher} with a cache of the most recently used pages, a page is identified by its
+ * {@link PageRequest} so the same page of a different search or sort is cached separately. After a page is served
+ * the previous and the next pages are prefetched, and a request for a page that is already being fetched waits for
+ * that fetch instead of starting a new one.
+ */
+public class CachingRecordsFetcher<T> implements RecordsFetcher<T> {
+
+    private final RecordsFetcher<T> delegate;
+    private final LruCache<PageRequest<T>, CachedPage<T>> cache;
+    private final Map<PageRequest<T>, PendingFetch> pending = new HashMap<>();
+    private boolean prefetch = true;
+    private int hits = 0;
+    private int misses = 0;
+    private int joins = 0;
+
+    public CachingRecordsFetcher(RecordsFetcher<T> delegate) {
+        this(delegate, 10);
+    }
+
+    public CachingRecordsFetcher(RecordsFetcher<T> delegate, int cacheSize) {
+        this.delegate = delegate;
+        this.cache = new LruCache<>(cacheSize);
+    }
+
+    @Override
+    public RequestHandle fetch(PageRequest<T> request, FetchCallback<T> callback) {
+        CachedPage<T> cachedPage = cache.get(request);
+        if (nonNull(cachedPage)) {
+            hits++;
+            callback.onSuccess(new ArrayList<>(cachedPage.records), cachedPage.totalCount);
+            prefetchAround(request, cachedPage.totalCount);
+            return () -> {
+            };
+        }
+
+        PendingFetch pendingFetch = pending.get(request);
+        if (nonNull(pendingFetch)) {
+            joins++;
+            pendingFetch.callbacks.add(callback);
+        } else {
+            misses++;
+            pendingFetch = startFetch(request, callback);
+        }
+        PendingFetch waitingFetch = pendingFetch;
+        return () -> waitingFetch.callbacks.remove(callback);
+    }
+
+    private PendingFetch startFetch(PageRequest<T> request, FetchCallback<T> callback) {
+        PendingFetch pendingFetch = new PendingFetch();
+        if (nonNull(callback)) {
+            pendingFetch.callbacks.add(callback);
+        }
+        pending.put(request, pendingFetch);
+        RequestHandle handle = delegate.fetch(request, new FetchCallback<T>() {
+            @Override
+            public void onSuccess(List<T> records, int totalCount) {
+                if (pending.get(request) == pendingFetch) {
+                    pending.remove(request);
+                }
+                if (pendingFetch.cacheable) {
+                    cache.put(request, new CachedPage<>(new ArrayList<>(records), totalCount));
+                }
+                new ArrayList<>(pendingFetch.callbacks).forEach(waiting -> waiting.onSuccess(new ArrayList<>(records), totalCount));
+                if (!pendingFetch.callbacks.isEmpty()) {
+                    prefetchAround(request, totalCount);
+                }
+            }
+
+            @Override
+            public void onFailed(Throwable error) {
+                if (pending.get(request) == pendingFetch) {
+                    pending.remove(request);
+                }
+                new ArrayList<>(pendingFetch.callbacks).forEach(waiting -> waiting.onFailed(error));
+            }
+        });
+        pendingFetch.handle = handle;
+        return pendingFetch;
+    }
+
+    private void prefetchAround(PageRequest<T> request, int totalCount) {
+        if (!prefetch) {
+            return;
+        }
+        prefetchPage(request.withOffset(request.getOffset() + request.getLimit()), totalCount);
+        prefetchPage(request.withOffset(request.getOffset() - request.getLimit()), totalCount);
+    }
+
+    private void prefetchPage(PageRequest<T> request, int totalCount) {
+        if (request.getOffset() >= 0 && request.getOffset() < totalCount
+                && !cache.containsKey(request) && !pending.containsKey(request)) {
+            startFetch(request, null);
+        }
+    }
+
+    /**
+     * Removes all the cached pages and cancels the prefetches in progress.
+     */
+    public void invalidate() {
+        invalidate(request -> true);
+    }
+
+    /**
+     * Removes the cached pages of the matching requests, prefetches in progress for the matching requests are
+     * cancelled and fetches still awaited by a caller will not be cached.
+     *
+     * @param requestPredicate matches the requests to invalidate
+     */
+    public void invalidate(Predicate<PageRequest<T>> requestPredicate) {
+        cache.keySet().removeIf(requestPredicate);
+        Iterator<Map.Entry<PageRequest<T>, PendingFetch>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<PageRequest<T>, PendingFetch> entry = iterator.next();
+            if (requestPredicate.test(entry.getKey())) {
+                entry.getValue().cacheable = false;
+                if (entry.getValue().callbacks.isEmpty()) {
+                    if (nonNull(entry.getValue().handle)) {
+                        entry.getValue().handle.cancel();
+                    }
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the cached pages that contain the record, to be used when a single record is changed.
+     *
+     * @param record the changed record
+     */
+    public void invalidateRecord(T record) {
+        cache.entrySet().removeIf(entry -> entry.getValue().records.contains(record));
+    }
+
+    public int getHits() {
+        return hits;
+    }
+
+    public int getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return the number of requests that waited for a fetch or a prefetch of the same page already in progress
+     * instead of starting a new one, they are neither hits nor misses
+     */
+    public int getJoins() {
+        return joins;
+    }
+
+    public void resetStats() {
+        this.hits = 0;
+        this.misses = 0;
+        this.joins = 0;
+    }
+
+    public int getCacheSize() {
+        return cache.getMaxSize();
+    }
+
+    public CachingRecordsFetcher<T> setCacheSize(int cacheSize) {
+        cache.setMaxSize(cacheSize);
+        return this;
+    }
+
+    public boolean isPrefetch() {
+        return prefetch;
+    }
+
+    public CachingRecordsFetcher<T> setPrefetch(boolean prefetch) {
+        this.prefetch = prefetch;
+        return this;
+    }
+
+    private static class CachedPage<T> {
+        private final List<T> records;
+        private final int totalCount;
+
+        private CachedPage(List<T> records, int totalCount) {
+            this.records = records;
+            this.totalCount = totalCount;
+        }
+    }
+
+    private class PendingFetch {
+        private final List<FetchCallback<T>> callbacks = new ArrayList<>();
+        private RequestHandle handle;
+        private boolean cacheable = true;
+    }
+}
@@ -6,17 +6,47 @@ public class DataChangedEvent<T> {
     private final List<T> newData;
     private final boolean append;
     private final int totalCount;
+    private final boolean prepend;
+    private final int windowOffset;
+    private final int evictedCount;
 
     public DataChangedEvent(List<T> newData, int totalCount) {
         this.newData = newData;
         this.totalCount = totalCount;
         this.append=false;
+        this.prepend = false;
+        this.windowOffset = 0;
+        this.evictedCount = 0;
     }
 
     public DataChangedEvent(List<T> newData, boolean append, int totalCount) {
         this.newData = newData;
         this.append = append;
         this.totalCount = totalCount;
+        this.prepend = false;
+        this.windowOffset = 0;
+        this.evictedCount = 0;
+    }
+
+    /**
+     * Creates an event for a store that keeps a sliding window of records, the new records are added at the end of
+     * the window when appending or at its start when prepending, and the evicted records are removed from the
+     * opposite end.
+     *
+     * @param newData      the records added to the window
+     * @param append       true when the records are added at the end of the window
+     * @param prepend      true when the records are added at the start of the window
+     * @param totalCount   the total count of records in the store
+     * @param windowOffset the index of the first record of the window after the change
+     * @param evictedCount the number of records removed from the opposite end of the window
+     */
+    public DataChangedEvent(List<T> newData, boolean append, boolean prepend, int totalCount, int windowOffset, int evictedCount) {
+        this.newData = newData;
+        this.append = append;
+        this.prepend = prepend;
+        this.totalCount = totalCount;
+        this.windowOffset = windowOffset;
+        this.evictedCount = evictedCount;
     }
 
     public List<T> getNewData() {
@@ -30,4 +60,16 @@ public class DataChangedEvent<T> {
     public int getTotalCount() {
         return totalCount;
     }
+
+    public boolean isPrepend() {
+        return prepend;
+    }
+
+    public int getWindowOffset() {
+        return windowOffset;
+    }
+
+    public int getEvictedCount() {
+        return evictedCount;
+    }
 }
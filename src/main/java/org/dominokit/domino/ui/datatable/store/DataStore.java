@@ -1,5 +1,6 @@
 package org.dominokit.domino.ui.datatable.store;
 
+import org.dominokit.domino.ui.datatable.events.TableEventBus;
 import org.dominokit.domino.ui.datatable.events.TableEventListener;
 
 public interface DataStore<T> extends TableEventListener {
@@ -9,5 +10,9 @@ public interface DataStore<T> extends TableEventListener {
 
     void load();
 
+    default void registerListeners(TableEventBus eventBus) {
+        eventBus.addListener(TableEventBus.ANY, this);
+    }
+
 }
 
@@ -0,0 +1,12 @@
+package org.dominokit.domino.ui.datatable.store;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface FilteredRecordsProvider<T> {
+
+    /**
+     * @return a copy of the records matching the current search, in the current sort order
+     */
+    List<T> getFilteredRecords();
+}
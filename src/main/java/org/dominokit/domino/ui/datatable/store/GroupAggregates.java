@@ -0,0 +1,119 @@
+package org.dominokit.domino.ui.datatable.store;
+
+import java.util.List;
+import java.util.TreeMap;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * The aggregates of a group of records, or of all the filtered records for the totals. Values are maintained as
+ * records are added and removed, min and max keep a count per value so removing the current min or max does not
+ * need a scan of the group.
+ */
+public class GroupAggregates<T> {
+
+    private final Object key;
+    private final List<Aggregation<T>> aggregations;
+    private final double[] sums;
+    private final int[] counts;
+    private final TreeMap<Double, Integer>[] values;
+    private int count = 0;
+
+    @SuppressWarnings("unchecked")
+    GroupAggregates(Object key, List<Aggregation<T>> aggregations) {
+        this.key = key;
+        this.aggregations = aggregations;
+        this.sums = new double[aggregations.size()];
+        this.counts = new int[aggregations.size()];
+        this.values = new TreeMap[aggregations.size()];
+        for (int i = 0; i < aggregations.size(); i++) {
+            AggregateType type = aggregations.get(i).getType();
+            if (AggregateType.MIN.equals(type) || AggregateType.MAX.equals(type)) {
+                values[i] = new TreeMap<>();
+            }
+        }
+    }
+
+    void add(double[] recordValues) {
+        count++;
+        for (int i = 0; i < recordValues.length; i++) {
+            if (!Double.isNaN(recordValues[i])) {
+                sums[i] += recordValues[i];
+                counts[i]++;
+                if (nonNull(values[i])) {
+                    values[i].merge(recordValues[i], 1, Integer::sum);
+                }
+            }
+        }
+    }
+
+    void remove(double[] recordValues) {
+        count--;
+        for (int i = 0; i < recordValues.length; i++) {
+            if (!Double.isNaN(recordValues[i])) {
+                sums[i] -= recordValues[i];
+                counts[i]--;
+                if (nonNull(values[i])) {
+                    values[i].computeIfPresent(recordValues[i], (value, valueCount) -> valueCount > 1 ? valueCount - 1 : null);
+                }
+            }
+        }
+    }
+
+    public Object getKey() {
+        return key;
+    }
+
+    /**
+     * @return the number of records in the group
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @param aggregationName the name of the aggregation
+     * @return the aggregated value, null when no record of the group has a value for the aggregation
+     */
+    public Double getValue(String aggregationName) {
+        for (int i = 0; i < aggregations.size(); i++) {
+            if (aggregations.get(i).getName().equals(aggregationName)) {
+                return value(i);
+            }
+        }
+        return null;
+    }
+
+    private Double value(int index) {
+        if (counts[index] == 0) {
+            return null;
+        }
+        switch (aggregations.get(index).getType()) {
+            case COUNT:
+                return (double) counts[index];
+            case SUM:
+                return sums[index];
+            case AVG:
+                return sums[index] / counts[index];
+            case MIN:
+                return values[index].firstKey();
+            case MAX:
+                return values[index].lastKey();
+        }
+        return null;
+    }
+
+    boolean isEmpty() {
+        return count == 0;
+    }
+
+    static <T> double[] extract(T record, List<Aggregation<T>> aggregations) {
+        double[] recordValues = new double[aggregations.size()];
+        for (int i = 0; i < aggregations.size(); i++) {
+            Number value = aggregations.get(i).getValueExtractor().getValue(record);
+            recordValues[i] = isNull(value) ? Double.NaN : value.doubleValue();
+        }
+        return recordValues;
+    }
+}
@@ -0,0 +1,12 @@
+package org.dominokit.domino.ui.datatable.store;
+
+public interface GroupAggregatesProvider<T> {
+
+    boolean isGrouped();
+
+    Object getGroupKey(T record);
+
+    GroupAggregates<T> getGroupAggregates(Object groupKey);
+
+    GroupAggregates<T> getTotals();
+}
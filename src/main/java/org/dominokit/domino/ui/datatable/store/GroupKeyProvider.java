@@ -0,0 +1,6 @@
+package org.dominokit.domino.ui.datatable.store;
+
+@FunctionalInterface
+public interface GroupKeyProvider<T> {
+    Object getGroupKey(T record);
+}
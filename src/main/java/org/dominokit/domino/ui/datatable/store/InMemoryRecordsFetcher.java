@@ -0,0 +1,74 @@
+package org.dominokit.domino.ui.datatable.store;
+
+import org.dominokit.domino.ui.datatable.events.SearchEvent;
+import org.gwtproject.timer.client.Timer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Objects.isNull;
+
+/**
+ * A {@link RecordsFetcher} that serves pages from a list in memory, useful as a stand in for a server while testing
+ * a {@link RemoteDataStore}. With a delay greater than zero the responses are sent from a timer to simulate the
+ * network latency, otherwise the callback is called synchronously.
+ */
+public class InMemoryRecordsFetcher<T> implements RecordsFetcher<T> {
+
+    private final List<T> records;
+    private final LocalSortEngine<T> sortEngine = new LocalSortEngine<>();
+    private SearchFilter<T> searchFilter;
+    private int delay = 0;
+
+    public InMemoryRecordsFetcher(List<T> records) {
+        this.records = records;
+    }
+
+    @Override
+    public RequestHandle fetch(PageRequest<T> request, FetchCallback<T> callback) {
+        if (delay <= 0) {
+            respond(request, callback);
+            return () -> {
+            };
+        }
+        Timer timer = new Timer() {
+            @Override
+            public void run() {
+                respond(request, callback);
+            }
+        };
+        timer.schedule(delay);
+        return timer::cancel;
+    }
+
+    private void respond(PageRequest<T> request, FetchCallback<T> callback) {
+        List<T> matching = new ArrayList<>();
+        SearchEvent searchEvent = new SearchEvent(request.getSearchText(), request.getSearchField());
+        for (T record : records) {
+            if (isNull(searchFilter) || searchFilter.filterRecord(searchEvent, record)) {
+                matching.add(record);
+            }
+        }
+        if (!request.getSortKeys().isEmpty() && sortEngine.isEnabled()) {
+            sortEngine.sort(matching, request.getSortKeys(), records);
+        }
+        int fromIndex = Math.min(request.getOffset(), matching.size());
+        int toIndex = Math.min(fromIndex + request.getLimit(), matching.size());
+        callback.onSuccess(new ArrayList<>(matching.subList(fromIndex, toIndex)), matching.size());
+    }
+
+    public InMemoryRecordsFetcher<T> setSearchFilter(SearchFilter<T> searchFilter) {
+        this.searchFilter = searchFilter;
+        return this;
+    }
+
+    public InMemoryRecordsFetcher<T> setRecordsSorter(RecordsSorter<T> recordsSorter) {
+        sortEngine.setRecordsSorter(recordsSorter);
+        return this;
+    }
+
+    public InMemoryRecordsFetcher<T> setDelay(int delay) {
+        this.delay = delay;
+        return this;
+    }
+}
@@ -0,0 +1,226 @@
+package org.dominokit.domino.ui.datatable.store;
+
+import java.util.*;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Groups the filtered records of a local store and maintains the aggregates of every group and the totals. The engine
+ * remembers the group key and the aggregated values of every record it holds, so records are added, removed and
+ * updated without scanning their groups, and a new filter result only touches the records that entered or left it.
+ */
+class LocalGroupingEngine<T> {
+
+    private GroupKeyProvider<T> groupKeyProvider;
+    private final List<Aggregation<T>> aggregations = new ArrayList<>();
+    private final Map<Object, GroupAggregates<T>> groups = new HashMap<>();
+    private final Map<T, Member> members = new IdentityHashMap<>();
+    private GroupAggregates<T> totals = new GroupAggregates<>(null, aggregations);
+
+    boolean isEnabled() {
+        return nonNull(groupKeyProvider) || !aggregations.isEmpty();
+    }
+
+    boolean isGrouped() {
+        return nonNull(groupKeyProvider);
+    }
+
+    /**
+     * Makes the aggregated records match the records, only the records that are not aggregated yet are added and only
+     * the aggregated records missing from the list are removed.
+     */
+    void sync(List<T> records) {
+        if (!isEnabled()) {
+            return;
+        }
+        Map<T, Boolean> current = new IdentityHashMap<>(records.size());
+        for (T record : records) {
+            current.put(record, Boolean.TRUE);
+            if (!members.containsKey(record)) {
+                add(record);
+            }
+        }
+        if (members.size() > current.size()) {
+            List<T> removed = new ArrayList<>();
+            for (T record : members.keySet()) {
+                if (!current.containsKey(record)) {
+                    removed.add(record);
+                }
+            }
+            removed.forEach(this::remove);
+        }
+    }
+
+    void add(T record) {
+        if (!isEnabled()) {
+            return;
+        }
+        Member member = new Member(groupKey(record), GroupAggregates.extract(record, aggregations));
+        members.put(record, member);
+        totals.add(member.values);
+        if (isGrouped()) {
+            groups.computeIfAbsent(member.groupKey, key -> new GroupAggregates<>(key, aggregations)).add(member.values);
+        }
+    }
+
+    void remove(T record) {
+        Member member = members.remove(record);
+        if (isNull(member)) {
+            return;
+        }
+        totals.remove(member.values);
+        GroupAggregates<T> group = groups.get(member.groupKey);
+        if (nonNull(group)) {
+            group.remove(member.values);
+            if (group.isEmpty()) {
+                groups.remove(member.groupKey);
+            }
+        }
+    }
+
+    /**
+     * Aggregates the record again with its current values, to be used after the record changed.
+     */
+    void update(T record) {
+        if (members.containsKey(record)) {
+            remove(record);
+            add(record);
+        }
+    }
+
+    /**
+     * Reorders the records so the records of each group are next to each other, groups are ordered by their first
+     * record and the records keep their order inside a group.
+     */
+    void group(List<T> records) {
+        if (!isGrouped() || records.isEmpty()) {
+            return;
+        }
+        Map<Object, List<T>> buckets = new LinkedHashMap<>();
+        for (T record : records) {
+            buckets.computeIfAbsent(groupKey(record), key -> new ArrayList<>()).add(record);
+        }
+        if (buckets.size() > 1) {
+            records.clear();
+            buckets.values().forEach(records::addAll);
+        }
+    }
+
+    /**
+     * Inserts a record in grouped records, in the run of its group at the position given by the comparator or at the
+     * end of the run without one. A new group is placed by its first record, and a group whose first record changed
+     * is moved to keep the groups ordered.
+     */
+    void insert(List<T> records, T record, Comparator<T> comparator) {
+        Object key = groupKey(record);
+        int runStart = -1;
+        int runEnd = -1;
+        for (int i = 0; i < records.size(); i++) {
+            if (Objects.equals(groupKey(records.get(i)), key)) {
+                if (runStart < 0) {
+                    runStart = i;
+                }
+                runEnd = i + 1;
+            } else if (runStart >= 0) {
+                break;
+            }
+        }
+        if (runStart < 0) {
+            records.add(isNull(comparator) ? records.size() : groupPosition(records, record, comparator), record);
+            return;
+        }
+        int position = isNull(comparator) ? runEnd : LocalSortEngine.upperBound(records, runStart, runEnd, record, comparator);
+        records.add(position, record);
+        if (position == runStart && nonNull(comparator)) {
+            moveGroup(records, runStart, runEnd + 1, comparator);
+        }
+    }
+
+    /**
+     * Removes the record at the position from grouped records, the group is moved if its first record was removed.
+     */
+    void removeAt(List<T> records, int position, Comparator<T> comparator) {
+        T record = records.remove(position);
+        if (isNull(comparator) || position >= records.size()) {
+            return;
+        }
+        Object key = groupKey(record);
+        boolean runStart = position == 0 || !Objects.equals(groupKey(records.get(position - 1)), key);
+        if (runStart && Objects.equals(groupKey(records.get(position)), key)) {
+            int runEnd = position + 1;
+            while (runEnd < records.size() && Objects.equals(groupKey(records.get(runEnd)), key)) {
+                runEnd++;
+            }
+            moveGroup(records, position, runEnd, comparator);
+        }
+    }
+
+    private void moveGroup(List<T> records, int runStart, int runEnd, Comparator<T> comparator) {
+        List<T> run = new ArrayList<>(records.subList(runStart, runEnd));
+        records.subList(runStart, runEnd).clear();
+        records.addAll(groupPosition(records, run.get(0), comparator), run);
+    }
+
+    /**
+     * @return the position of a group starting with the record, before the first group whose first record sorts after
+     * it
+     */
+    private int groupPosition(List<T> records, T first, Comparator<T> comparator) {
+        Object previousKey = null;
+        for (int i = 0; i < records.size(); i++) {
+            Object key = groupKey(records.get(i));
+            if ((i == 0 || !Objects.equals(key, previousKey)) && comparator.compare(records.get(i), first) > 0) {
+                return i;
+            }
+            previousKey = key;
+        }
+        return records.size();
+    }
+
+    Object groupKey(T record) {
+        Member member = members.get(record);
+        if (nonNull(member)) {
+            return member.groupKey;
+        }
+        return isGrouped() ? groupKeyProvider.getGroupKey(record) : null;
+    }
+
+    void reset() {
+        members.clear();
+        groups.clear();
+        totals = new GroupAggregates<>(null, aggregations);
+    }
+
+    GroupAggregates<T> getGroup(Object groupKey) {
+        return groups.get(groupKey);
+    }
+
+    GroupAggregates<T> getTotals() {
+        return totals;
+    }
+
+    void setGroupKeyProvider(GroupKeyProvider<T> groupKeyProvider) {
+        this.groupKeyProvider = groupKeyProvider;
+        reset();
+    }
+
+    GroupKeyProvider<T> getGroupKeyProvider() {
+        return groupKeyProvider;
+    }
+
+    void addAggregation(Aggregation<T> aggregation) {
+        aggregations.add(aggregation);
+        reset();
+    }
+
+    private class Member {
+        private final Object groupKey;
+        private final double[] values;
+
+        private Member(Object groupKey, double[] values) {
+            this.groupKey = groupKey;
+            this.values = values;
+        }
+    }
+}
@@ -3,18 +3,21 @@ package org.dominokit.domino.ui.datatable.store;
 import org.dominokit.domino.ui.datatable.events.SearchEvent;
 import org.dominokit.domino.ui.datatable.events.SortEvent;
 import org.dominokit.domino.ui.datatable.events.TableEvent;
+import org.dominokit.domino.ui.datatable.events.TableEventBus;
 import org.dominokit.domino.ui.pagination.HasPagination;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.dominokit.domino.ui.datatable.events.SearchEvent.SEARCH_EVENT;
 import static org.dominokit.domino.ui.datatable.events.SortEvent.SORT_EVENT;
 import static org.dominokit.domino.ui.datatable.events.TablePageChangeEvent.PAGINATION_EVENT;
 
-public class LocalListDataStore<T> implements DataStore<T> {
+public class LocalListDataStore<T> implements DataStore<T>, GroupAggregatesProvider<T>, FilteredRecordsProvider<T> {
 
     private List<StoreDataChangeListener<T>> listeners = new ArrayList<>();
 
@@ -24,6 +27,10 @@ public class LocalListDataStore<T> implements DataStore<T> {
     private SearchFilter<T> searchFilter;
     private RecordsSorter<T> recordsSorter;
     private SortEvent<T> lastSort;
+    private SearchEvent lastSearch;
+    private final LocalSortEngine<T> sortEngine = new LocalSortEngine<>();
+    private final LocalSearchEngine<T> searchEngine = new LocalSearchEngine<>();
+    private final LocalGroupingEngine<T> groupingEngine = new LocalGroupingEngine<>();
 
     public LocalListDataStore() {
         this.original = new ArrayList<>();
@@ -40,6 +47,239 @@ public class LocalListDataStore<T> implements DataStore<T> {
         this.original.addAll(data);
         this.filtered.clear();
         this.filtered.addAll(original);
+        this.searchEngine.invalidate();
+        this.sortEngine.invalidate();
+        this.groupingEngine.reset();
+        refreshGroups();
+    }
+
+    /**
+     * Adds a record to the store, the record is shown if it matches the current search and the aggregates of its
+     * group are updated.
+     *
+     * @param record the new record
+     */
+    public void addRecord(T record) {
+        addRecords(Collections.singletonList(record));
+    }
+
+    public void addRecords(List<T> records) {
+        original.addAll(records);
+        searchEngine.onRecordsChanged(records, Collections.emptyList());
+        sortEngine.onRecordsChanged();
+        Comparator<T> comparator = filteredComparator();
+        for (T record : records) {
+            if (matchesLastSearch(record)) {
+                groupingEngine.add(record);
+                insertFiltered(record, comparator, filtered.size());
+            }
+        }
+        onFilteredChanged();
+    }
+
+    /**
+     * Removes a record from the store, the aggregates of its group are updated.
+     *
+     * @param record the record to remove
+     */
+    public void removeRecord(T record) {
+        int index = original.indexOf(record);
+        if (index < 0) {
+            return;
+        }
+        T removed = original.remove(index);
+        searchEngine.onRecordsChanged(Collections.emptyList(), Collections.singletonList(removed));
+        sortEngine.onRecordsChanged();
+        Comparator<T> comparator = filteredComparator();
+        int position = filteredPosition(removed, comparator);
+        if (position >= 0) {
+            removeFiltered(position, comparator);
+            groupingEngine.remove(removed);
+        }
+        onFilteredChanged();
+    }
+
+    /**
+     * To be called after a record of the store changed, the record is aggregated again with its new values and shown
+     * or hidden according to the current search.
+     *
+     * @param record the changed record
+     */
+    public void updateRecord(T record) {
+        searchEngine.onRecordsChanged(Collections.singletonList(record), Collections.emptyList());
+        sortEngine.onRecordsChanged();
+        Comparator<T> comparator = filteredComparator();
+        // the sort values of the record may have changed, it is looked up by identity
+        int position = identityPosition(record);
+        boolean matches = matchesLastSearch(record);
+        if (position >= 0 && matches && isNull(comparator) && !groupingEngine.isGrouped()) {
+            groupingEngine.update(record);
+            fireUpdate();
+            return;
+        }
+        if (position >= 0) {
+            // removed while the record is still aggregated with its previous group key
+            removeFiltered(position, comparator);
+            groupingEngine.remove(record);
+        }
+        if (matches) {
+            groupingEngine.add(record);
+            insertFiltered(record, comparator, originalOrderPosition(record));
+        }
+        onFilteredChanged();
+    }
+
+    private boolean matchesLastSearch(T record) {
+        return isNull(lastSearch) || !searchEngine.isEnabled(searchFilter)
+                || searchEngine.matches(record, lastSearch, searchFilter);
+    }
+
+    private Comparator<T> filteredComparator() {
+        return nonNull(lastSort) && sortEngine.isEnabled() ? sortEngine.recordComparator(lastSort.getSortKeys()) : null;
+    }
+
+    /**
+     * Inserts a record in the filtered records keeping their order, by the current sort or at the given position of
+     * the original order when they are not sorted.
+     */
+    private void insertFiltered(T record, Comparator<T> comparator, int unsortedPosition) {
+        if (groupingEngine.isGrouped()) {
+            groupingEngine.insert(filtered, record, comparator);
+        } else if (nonNull(comparator)) {
+            filtered.add(LocalSortEngine.upperBound(filtered, 0, filtered.size(), record, comparator), record);
+        } else {
+            filtered.add(unsortedPosition, record);
+        }
+    }
+
+    private void removeFiltered(int position, Comparator<T> comparator) {
+        if (groupingEngine.isGrouped()) {
+            groupingEngine.removeAt(filtered, position, comparator);
+        } else {
+            filtered.remove(position);
+        }
+    }
+
+    /**
+     * @return the position of a record in the sorted filtered records, found within the run of records that compare
+     * equal to it
+     */
+    private int filteredPosition(T record, Comparator<T> comparator) {
+        if (nonNull(comparator) && !groupingEngine.isGrouped()) {
+            int position = LocalSortEngine.upperBound(filtered, 0, filtered.size(), record, comparator);
+            while (--position >= 0 && comparator.compare(filtered.get(position), record) == 0) {
+                if (filtered.get(position) == record) {
+                    return position;
+                }
+            }
+            return -1;
+        }
+        return identityPosition(record);
+    }
+
+    private int identityPosition(T record) {
+        for (int i = 0; i < filtered.size(); i++) {
+            if (filtered.get(i) == record) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the position of a record in the unsorted filtered records, which keep the order of the original records
+     */
+    private int originalOrderPosition(T record) {
+        int position = 0;
+        for (T candidate : original) {
+            if (candidate == record) {
+                return position;
+            }
+            if (position < filtered.size() && filtered.get(position) == candidate) {
+                position++;
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Keeps the active page after records were added, removed or changed, the pager is rebuilt only when the number of
+     * pages changed.
+     */
+    private void onFilteredChanged() {
+        if (nonNull(pagination)) {
+            int pageSize = pagination.getPageSize();
+            int pagesCount = (filtered.size() / pageSize) + (filtered.size() % pageSize > 0 ? 1 : 0);
+            if (pagesCount != pagination.getPagesCount()) {
+                int activePage = pagination.activePage();
+                pagination.updatePagesByTotalCount(filtered.size());
+                if (activePage > 1 && pagesCount > 0) {
+                    pagination.gotoPage(Math.min(activePage, pagesCount), true);
+                }
+            }
+        }
+        fireUpdate();
+    }
+
+    private void sortByLastSort(List<T> records) {
+        if (nonNull(lastSort)) {
+            sort(records, lastSort);
+        }
+    }
+
+    private void refreshGroups() {
+        groupingEngine.sync(filtered);
+        groupingEngine.group(filtered);
+    }
+
+    /**
+     * Groups the filtered records by the provided key, the records of a group are kept next to each other in the
+     * order of the current sort and the groups are ordered by their first record.
+     *
+     * @param groupKeyProvider provides the group key of a record, null to stop grouping
+     * @return same store instance
+     */
+    public LocalListDataStore<T> setGroupKeyProvider(GroupKeyProvider<T> groupKeyProvider) {
+        groupingEngine.setGroupKeyProvider(groupKeyProvider);
+        refreshGroups();
+        return this;
+    }
+
+    public GroupKeyProvider<T> getGroupKeyProvider() {
+        return groupingEngine.getGroupKeyProvider();
+    }
+
+    /**
+     * Adds an aggregate computed for every group and for the totals of the filtered records, aggregates are updated
+     * incrementally as records are added, removed, updated or filtered.
+     *
+     * @param aggregation the aggregation to compute
+     * @return same store instance
+     */
+    public LocalListDataStore<T> addAggregation(Aggregation<T> aggregation) {
+        groupingEngine.addAggregation(aggregation);
+        refreshGroups();
+        return this;
+    }
+
+    @Override
+    public boolean isGrouped() {
+        return groupingEngine.isGrouped();
+    }
+
+    @Override
+    public Object getGroupKey(T record) {
+        return groupingEngine.groupKey(record);
+    }
+
+    @Override
+    public GroupAggregates<T> getGroupAggregates(Object groupKey) {
+        return groupingEngine.getGroup(groupKey);
+    }
+
+    @Override
+    public GroupAggregates<T> getTotals() {
+        return groupingEngine.getTotals();
     }
 
     public SearchFilter<T> getSearchFilter() {
@@ -51,6 +291,43 @@ public class LocalListDataStore<T> implements DataStore<T> {
         return this;
     }
 
+    public boolean isIncrementalSearch() {
+        return searchEngine.isIncremental();
+    }
+
+    /**
+     * Narrows the previous search result when the new search text starts with the previous one, enable it only when
+     * the search filter never matches a record for a text that it rejected for a shorter prefix of that text.
+     *
+     * @param incrementalSearch true to narrow the previous result
+     * @return same store instance
+     */
+    public LocalListDataStore<T> setIncrementalSearch(boolean incrementalSearch) {
+        searchEngine.setIncremental(incrementalSearch);
+        return this;
+    }
+
+    public SearchTextProvider<T> getSearchTextProvider() {
+        return searchEngine.getSearchTextProvider();
+    }
+
+    /**
+     * Builds a lower cased text index per search field from the provided text, search then matches the records whose
+     * indexed text contains the search text ignoring the case, instead of calling the search filter.
+     *
+     * @param searchTextProvider provides the searchable text of a record for a search field
+     * @return same store instance
+     */
+    public LocalListDataStore<T> setSearchTextProvider(SearchTextProvider<T> searchTextProvider) {
+        searchEngine.setSearchTextProvider(searchTextProvider);
+        return this;
+    }
+
+    public LocalListDataStore<T> setSearchCacheSize(int searchCacheSize) {
+        searchEngine.setCacheSize(searchCacheSize);
+        return this;
+    }
+
     public HasPagination getPagination() {
         return pagination;
     }
@@ -66,6 +343,39 @@ public class LocalListDataStore<T> implements DataStore<T> {
 
     public LocalListDataStore<T> setRecordsSorter(RecordsSorter<T> recordsSorter) {
         this.recordsSorter = recordsSorter;
+        this.sortEngine.setRecordsSorter(recordsSorter);
+        return this;
+    }
+
+    public SortValueProvider<T> getSortValueProvider() {
+        return sortEngine.getSortValueProvider();
+    }
+
+    /**
+     * Sort values are extracted once per record and sort key before sorting, the {@link RecordsSorter} is not needed
+     * when a sort value provider is set.
+     *
+     * @param sortValueProvider provides the value a record is sorted by for a column
+     * @return same store instance
+     */
+    public LocalListDataStore<T> setSortValueProvider(SortValueProvider<T> sortValueProvider) {
+        sortEngine.setSortValueProvider(sortValueProvider);
+        return this;
+    }
+
+    public boolean isSortIndexed() {
+        return sortEngine.isIndexed();
+    }
+
+    /**
+     * Ranks all the records once per sorted column and reuses the ranks for every following sort on that column,
+     * including sorts of search results, until the data is replaced.
+     *
+     * @param sortIndexed true to keep a sort index per column
+     * @return same store instance
+     */
+    public LocalListDataStore<T> setSortIndexed(boolean sortIndexed) {
+        sortEngine.setIndexed(sortIndexed);
         return this;
     }
 
@@ -85,6 +395,13 @@ public class LocalListDataStore<T> implements DataStore<T> {
         listeners.remove(dataChangeListener);
     }
 
+    @Override
+    public void registerListeners(TableEventBus eventBus) {
+        eventBus.addListener(SEARCH_EVENT, this)
+                .addListener(SORT_EVENT, this)
+                .addListener(PAGINATION_EVENT, this);
+    }
+
     @Override
     public void handleEvent(TableEvent event) {
         switch (event.getType()) {
@@ -101,26 +418,27 @@ public class LocalListDataStore<T> implements DataStore<T> {
     }
 
     private void onSearchChanged(SearchEvent event) {
-        if (nonNull(searchFilter)) {
-            filtered = original.stream().filter(record -> searchFilter.filterRecord(event, record)).collect(Collectors.toList());
-            if (nonNull(lastSort)) {
-                sort(lastSort);
-            }
+        if (searchEngine.isEnabled(searchFilter)) {
+            this.lastSearch = event;
+            filtered = searchEngine.search(original, event, searchFilter, this::sortByLastSort);
+            refreshGroups();
             loadFirstPage();
         }
     }
 
 
     private void onSortChanged(SortEvent<T> event) {
-        if (nonNull(this.recordsSorter)) {
+        if (sortEngine.isEnabled()) {
             this.lastSort = event;
-            sort(event);
+            sort(filtered, event);
+            groupingEngine.group(filtered);
+            searchEngine.onSorted();
             fireUpdate();
         }
     }
 
-    private void sort(SortEvent<T> event) {
-        filtered.sort(recordsSorter.onSortChange(event.getColumnConfig().getName(), event.getSortDirection()));
+    private void sort(List<T> records, SortEvent<T> event) {
+        sortEngine.sort(records, event.getSortKeys(), original);
     }
 
     private void loadFirstPage() {
@@ -136,8 +454,14 @@ public class LocalListDataStore<T> implements DataStore<T> {
         fireUpdate();
     }
 
+    @Override
+    public List<T> getFilteredRecords() {
+        return new ArrayList<>(filtered);
+    }
+
     @Override
     public void load() {
+        refreshGroups();
         fireUpdate();
         updatePagination();
     }
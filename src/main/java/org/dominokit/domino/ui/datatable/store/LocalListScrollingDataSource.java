@@ -4,27 +4,31 @@ import org.dominokit.domino.ui.datatable.events.BodyScrollEvent;
 import org.dominokit.domino.ui.datatable.events.SearchEvent;
 import org.dominokit.domino.ui.datatable.events.SortEvent;
 import org.dominokit.domino.ui.datatable.events.TableEvent;
+import org.dominokit.domino.ui.datatable.events.TableEventBus;
 import org.dominokit.domino.ui.datatable.plugins.BodyScrollPlugin;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import static java.util.Objects.nonNull;
 import static org.dominokit.domino.ui.datatable.events.BodyScrollEvent.BODY_SCROLL;
 import static org.dominokit.domino.ui.datatable.events.SortEvent.SORT_EVENT;
 import static org.dominokit.domino.ui.datatable.events.SearchEvent.SEARCH_EVENT;
 
-public class LocalListScrollingDataSource<T> implements DataStore<T> {
+public class LocalListScrollingDataSource<T> implements DataStore<T>, FilteredRecordsProvider<T> {
 
     private final List<T> original;
     private List<T> filtered = new ArrayList<>();
     private final int pageSize;
     private int pageIndex = 0;
+    private int firstPageIndex = 0;
+    private int maxPages = 0;
     private List<StoreDataChangeListener<T>> listeners = new ArrayList<>();
     private SearchFilter<T> searchFilter;
     private RecordsSorter<T> recordsSorter;
     private SortEvent<T> lastSort;
+    private final LocalSortEngine<T> sortEngine = new LocalSortEngine<>();
+    private final LocalSearchEngine<T> searchEngine = new LocalSearchEngine<>();
 
     public LocalListScrollingDataSource(int pageSize) {
         this.original = new ArrayList<>();
@@ -51,6 +55,93 @@ public class LocalListScrollingDataSource<T> implements DataStore<T> {
 
     public LocalListScrollingDataSource<T> setRecordsSorter(RecordsSorter<T> recordsSorter) {
         this.recordsSorter = recordsSorter;
+        this.sortEngine.setRecordsSorter(recordsSorter);
+        return this;
+    }
+
+    public SortValueProvider<T> getSortValueProvider() {
+        return sortEngine.getSortValueProvider();
+    }
+
+    /**
+     * Sort values are extracted once per record and sort key before sorting, the {@link RecordsSorter} is not needed
+     * when a sort value provider is set.
+     *
+     * @param sortValueProvider provides the value a record is sorted by for a column
+     * @return same store instance
+     */
+    public LocalListScrollingDataSource<T> setSortValueProvider(SortValueProvider<T> sortValueProvider) {
+        sortEngine.setSortValueProvider(sortValueProvider);
+        return this;
+    }
+
+    public boolean isSortIndexed() {
+        return sortEngine.isIndexed();
+    }
+
+    /**
+     * Ranks all the records once per sorted column and reuses the ranks for every following sort on that column,
+     * including sorts of search results, until the data is replaced.
+     *
+     * @param sortIndexed true to keep a sort index per column
+     * @return same store instance
+     */
+    public LocalListScrollingDataSource<T> setSortIndexed(boolean sortIndexed) {
+        sortEngine.setIndexed(sortIndexed);
+        return this;
+    }
+
+    public boolean isIncrementalSearch() {
+        return searchEngine.isIncremental();
+    }
+
+    /**
+     * Narrows the previous search result when the new search text starts with the previous one, enable it only when
+     * the search filter never matches a record for a text that it rejected for a shorter prefix of that text.
+     *
+     * @param incrementalSearch true to narrow the previous result
+     * @return same store instance
+     */
+    public LocalListScrollingDataSource<T> setIncrementalSearch(boolean incrementalSearch) {
+        searchEngine.setIncremental(incrementalSearch);
+        return this;
+    }
+
+    public SearchTextProvider<T> getSearchTextProvider() {
+        return searchEngine.getSearchTextProvider();
+    }
+
+    /**
+     * Builds a lower cased text index per search field from the provided text, search then matches the records whose
+     * indexed text contains the search text ignoring the case, instead of calling the search filter.
+     *
+     * @param searchTextProvider provides the searchable text of a record for a search field
+     * @return same store instance
+     */
+    public LocalListScrollingDataSource<T> setSearchTextProvider(SearchTextProvider<T> searchTextProvider) {
+        searchEngine.setSearchTextProvider(searchTextProvider);
+        return this;
+    }
+
+    public LocalListScrollingDataSource<T> setSearchCacheSize(int searchCacheSize) {
+        searchEngine.setCacheSize(searchCacheSize);
+        return this;
+    }
+
+    public int getMaxPages() {
+        return maxPages;
+    }
+
+    /**
+     * Keeps at most the given number of pages in the table, when a new page is loaded at one end of the window a page
+     * is evicted from the other end, evicted pages are loaded again when scrolled back into view. With virtual scrolling
+     * the table shifts its virtual rows and moves the scroll position by the rows loaded or evicted at the top.
+     *
+     * @param maxPages the maximum number of pages in the table, 0 to keep all the loaded pages
+     * @return same LocalListScrollingDataSource instance
+     */
+    public LocalListScrollingDataSource<T> setMaxPages(int maxPages) {
+        this.maxPages = maxPages;
         return this;
     }
 
@@ -59,6 +150,8 @@ public class LocalListScrollingDataSource<T> implements DataStore<T> {
         this.original.addAll(data);
         this.filtered.clear();
         this.filtered.addAll(original);
+        this.searchEngine.invalidate();
+        this.sortEngine.invalidate();
     }
 
     @Override
@@ -71,6 +164,11 @@ public class LocalListScrollingDataSource<T> implements DataStore<T> {
         listeners.remove(dataChangeListener);
     }
 
+    @Override
+    public List<T> getFilteredRecords() {
+        return new ArrayList<>(filtered);
+    }
+
     @Override
     public void load() {
         pageIndex = 0;
@@ -78,10 +176,32 @@ public class LocalListScrollingDataSource<T> implements DataStore<T> {
     }
 
     private void fireUpdate(boolean append) {
-        int fromIndex = pageSize * pageIndex;
+        if (!append) {
+            firstPageIndex = pageIndex;
+        }
+        listeners.forEach(dataChangeListener -> dataChangeListener.onDataChanged(new DataChangedEvent<>(pageRecords(pageIndex), append, filtered.size())));
+    }
+
+    private void fireWindowUpdate(int page, boolean append, int evictedCount) {
+        DataChangedEvent<T> dataChangedEvent = new DataChangedEvent<>(pageRecords(page), append, !append, filtered.size(), firstPageIndex * pageSize, evictedCount);
+        listeners.forEach(dataChangeListener -> dataChangeListener.onDataChanged(dataChangedEvent));
+    }
+
+    private List<T> pageRecords(int page) {
+        int fromIndex = pageSize * page;
         int toIndex = Math.min(fromIndex + pageSize, filtered.size());
+        return new ArrayList<>(filtered.subList(fromIndex, toIndex));
+    }
+
+    private int pageRecordsCount(int page) {
+        return Math.min(pageSize * (page + 1), filtered.size()) - pageSize * page;
+    }
 
-        listeners.forEach(dataChangeListener -> dataChangeListener.onDataChanged(new DataChangedEvent<>(new ArrayList<>(filtered.subList(fromIndex, toIndex)), append, filtered.size())));
+    @Override
+    public void registerListeners(TableEventBus eventBus) {
+        eventBus.addListener(BODY_SCROLL, this)
+                .addListener(SORT_EVENT, this)
+                .addListener(SEARCH_EVENT, this);
     }
 
     @Override
@@ -105,27 +225,45 @@ public class LocalListScrollingDataSource<T> implements DataStore<T> {
             int fromIndex=nextIndex * pageSize;
             if (fromIndex < filtered.size()) {
                 pageIndex++;
-                fireUpdate(true);
+                if (maxPages > 0) {
+                    int evictedCount = 0;
+                    if (pageIndex - firstPageIndex + 1 > maxPages) {
+                        evictedCount = pageRecordsCount(firstPageIndex);
+                        firstPageIndex++;
+                    }
+                    fireWindowUpdate(pageIndex, true, evictedCount);
+                } else {
+                    fireUpdate(true);
+                }
+            }
+        } else if (maxPages > 0 && firstPageIndex > 0) {
+            firstPageIndex--;
+            int evictedCount = 0;
+            if (pageIndex - firstPageIndex + 1 > maxPages) {
+                evictedCount = pageRecordsCount(pageIndex);
+                pageIndex--;
             }
+            fireWindowUpdate(firstPageIndex, false, evictedCount);
         }
     }
 
     private void onSearch(SearchEvent event) {
-        if(nonNull(searchFilter)){
-            filtered=original.stream().filter(t -> searchFilter.filterRecord(event, t)).collect(Collectors.toList());
-            if(nonNull(lastSort)){
-                onSort(lastSort);
-            }else {
-                pageIndex = 0;
-                fireUpdate(false);
-            }
+        if(searchEngine.isEnabled(searchFilter)){
+            filtered=searchEngine.search(original, event, searchFilter, records -> {
+                if(nonNull(lastSort)){
+                    sortEngine.sort(records, lastSort.getSortKeys(), original);
+                }
+            });
+            pageIndex = 0;
+            fireUpdate(false);
         }
     }
 
     private void onSort(SortEvent<T> event) {
-        if(nonNull(this.recordsSorter)){
+        if(sortEngine.isEnabled()){
             this.lastSort=event;
-            filtered.sort(recordsSorter.onSortChange(event.getColumnConfig().getName(), event.getSortDirection()));
+            sortEngine.sort(filtered, event.getSortKeys(), original);
+            searchEngine.onSorted();
             pageIndex=0;
             fireUpdate(false);
         }
@@ -0,0 +1,157 @@
+package org.dominokit.domino.ui.datatable.store;
+
+import org.dominokit.domino.ui.datatable.events.SearchEvent;
+import org.dominokit.domino.ui.utils.LruCache;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Filters the records of the local stores, results of recent searches are cached and when a search text extends the
+ * previous one the previous result is narrowed instead of filtering all the records again. Narrowed and cached
+ * results keep the order of the list they were filtered from, so they do not need to be sorted again.
+ */
+class LocalSearchEngine<T> {
+
+    private final LruCache<String, List<T>> cache = new LruCache<>(16);
+    private final Map<String, Map<T, String>> index = new HashMap<>();
+    private SearchTextProvider<T> searchTextProvider;
+    private boolean incremental = false;
+    private String lastField;
+    private String lastText;
+    private List<T> lastResult;
+
+    List<T> search(List<T> records, SearchEvent event, SearchFilter<T> searchFilter, Consumer<List<T>> sorter) {
+        String field = event.getSearchField();
+        String text = nonNull(event.getSearchText()) ? event.getSearchText() : "";
+        String key = field + "\u0000" + text;
+
+        List<T> result = cache.get(key);
+        if (isNull(result)) {
+            Predicate<T> matcher = matcher(records, event, searchFilter, field, text);
+            if (canNarrow(field, text)) {
+                result = filter(lastResult, matcher);
+            } else {
+                result = filter(records, matcher);
+                sorter.accept(result);
+            }
+            cache.put(key, result);
+        }
+
+        lastField = field;
+        lastText = text;
+        lastResult = result;
+        return result;
+    }
+
+    private boolean canNarrow(String field, String text) {
+        return (incremental || nonNull(searchTextProvider))
+                && nonNull(lastResult)
+                && Objects.equals(field, lastField)
+                && text.startsWith(lastText);
+    }
+
+    private Predicate<T> matcher(List<T> records, SearchEvent event, SearchFilter<T> searchFilter, String field, String text) {
+        if (nonNull(searchTextProvider)) {
+            Map<T, String> fieldIndex = fieldIndex(records, field);
+            String lowerText = text.toLowerCase();
+            return record -> fieldIndex.get(record).contains(lowerText);
+        }
+        return record -> searchFilter.filterRecord(event, record);
+    }
+
+    private Map<T, String> fieldIndex(List<T> records, String field) {
+        Map<T, String> fieldIndex = index.get(field);
+        if (isNull(fieldIndex)) {
+            fieldIndex = new IdentityHashMap<>();
+            for (T record : records) {
+                fieldIndex.put(record, recordText(record, field));
+            }
+            index.put(field, fieldIndex);
+        }
+        return fieldIndex;
+    }
+
+    /**
+     * @return true if a record added or changed after the search matches it
+     */
+    boolean matches(T record, SearchEvent event, SearchFilter<T> searchFilter) {
+        if (nonNull(searchTextProvider)) {
+            String text = nonNull(event.getSearchText()) ? event.getSearchText() : "";
+            return recordText(record, event.getSearchField()).contains(text.toLowerCase());
+        }
+        return searchFilter.filterRecord(event, record);
+    }
+
+    private String recordText(T record, String field) {
+        String recordText = searchTextProvider.getText(record, field);
+        return nonNull(recordText) ? recordText.toLowerCase() : "";
+    }
+
+    /**
+     * Updates the text index for records added, changed or removed after the last search. The last result is updated
+     * in place by the store so it can still be narrowed, the cached results of other searches are dropped.
+     */
+    void onRecordsChanged(Collection<T> changed, Collection<T> removed) {
+        cache.clear();
+        for (Map.Entry<String, Map<T, String>> fieldIndex : index.entrySet()) {
+            for (T record : removed) {
+                fieldIndex.getValue().remove(record);
+            }
+            for (T record : changed) {
+                fieldIndex.getValue().put(record, recordText(record, fieldIndex.getKey()));
+            }
+        }
+    }
+
+    private List<T> filter(List<T> records, Predicate<T> matcher) {
+        List<T> result = new ArrayList<>();
+        for (T record : records) {
+            if (matcher.test(record)) {
+                result.add(record);
+            }
+        }
+        return result;
+    }
+
+    boolean isEnabled(SearchFilter<T> searchFilter) {
+        return nonNull(searchFilter) || nonNull(searchTextProvider);
+    }
+
+    void onSorted() {
+        cache.clear();
+    }
+
+    void invalidate() {
+        cache.clear();
+        index.clear();
+        lastField = null;
+        lastText = null;
+        lastResult = null;
+    }
+
+    void setSearchTextProvider(SearchTextProvider<T> searchTextProvider) {
+        this.searchTextProvider = searchTextProvider;
+        invalidate();
+    }
+
+    SearchTextProvider<T> getSearchTextProvider() {
+        return searchTextProvider;
+    }
+
+    void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    boolean isIncremental() {
+        return incremental;
+    }
+
+    void setCacheSize(int cacheSize) {
+        cache.setMaxSize(cacheSize);
+    }
+}
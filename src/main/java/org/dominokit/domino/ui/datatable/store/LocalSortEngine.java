@@ -0,0 +1,275 @@
+package org.dominokit.domino.ui.datatable.store;
+
+import org.dominokit.domino.ui.datatable.events.SortKey;
+import org.dominokit.domino.ui.datatable.plugins.SortDirection;
+
+import java.util.*;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Sorts the records of the local stores by one or more sort keys, all sorts are stable.
+ * <p>
+ * Comparators returned by the {@link RecordsSorter} are cached per column and direction. When a
+ * {@link SortValueProvider} is set the sort values are extracted once per record before sorting, and when the sort
+ * index is enabled every column gets a rank per record computed once from all the records, so sorting a search
+ * result only compares integers. Sorting the same list again with all the directions flipped reverses it in linear
+ * time.
+ */
+class LocalSortEngine<T> {
+
+    private RecordsSorter<T> recordsSorter;
+    private SortValueProvider<T> sortValueProvider;
+    private boolean indexed = false;
+    private final Map<String, Comparator<T>> comparators = new HashMap<>();
+    private final Map<String, Map<T, Integer>> ranks = new HashMap<>();
+    private List<T> lastSorted;
+    private List<SortKey<T>> lastKeys;
+
+    boolean isEnabled() {
+        return nonNull(recordsSorter) || nonNull(sortValueProvider);
+    }
+
+    void sort(List<T> records, List<SortKey<T>> sortKeys, List<T> allRecords) {
+        if (records == lastSorted && isFlipOf(sortKeys, lastKeys)) {
+            reverse(records, sortKeys, allRecords);
+        } else if (indexed || nonNull(sortValueProvider)) {
+            decoratedSort(records, sortKeys, allRecords);
+        } else {
+            records.sort(comparator(sortKeys, allRecords));
+        }
+        lastSorted = records;
+        lastKeys = sortKeys;
+    }
+
+    private boolean isFlipOf(List<SortKey<T>> sortKeys, List<SortKey<T>> previousKeys) {
+        if (isNull(previousKeys) || sortKeys.size() != previousKeys.size()) {
+            return false;
+        }
+        for (int i = 0; i < sortKeys.size(); i++) {
+            SortKey<T> key = sortKeys.get(i);
+            SortKey<T> previousKey = previousKeys.get(i);
+            if (!key.getColumnConfig().getName().equals(previousKey.getColumnConfig().getName())
+                    || key.getSortDirection().equals(previousKey.getSortDirection())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void reverse(List<T> records, List<SortKey<T>> sortKeys, List<T> allRecords) {
+        Collections.reverse(records);
+        // records that compare equal must keep their previous relative order for the sort to stay stable
+        Comparator<T> comparator = comparator(sortKeys, allRecords);
+        int runStart = 0;
+        for (int i = 1; i <= records.size(); i++) {
+            if (i == records.size() || comparator.compare(records.get(i - 1), records.get(i)) != 0) {
+                if (i - runStart > 1) {
+                    Collections.reverse(records.subList(runStart, i));
+                }
+                runStart = i;
+            }
+        }
+    }
+
+    private void decoratedSort(List<T> records, List<SortKey<T>> sortKeys, List<T> allRecords) {
+        List<DecoratedRecord<T>> decorated = new ArrayList<>(records.size());
+        for (T record : records) {
+            Comparable[] values = new Comparable[sortKeys.size()];
+            for (int i = 0; i < sortKeys.size(); i++) {
+                values[i] = sortValue(record, sortKeys.get(i).getColumnConfig().getName(), allRecords);
+            }
+            decorated.add(new DecoratedRecord<>(record, values));
+        }
+
+        int[] signs = new int[sortKeys.size()];
+        for (int i = 0; i < sortKeys.size(); i++) {
+            signs[i] = SortDirection.DESC.equals(sortKeys.get(i).getSortDirection()) ? -1 : 1;
+        }
+
+        decorated.sort((first, second) -> {
+            for (int i = 0; i < signs.length; i++) {
+                int result = compareValues(first.values[i], second.values[i]);
+                if (result != 0) {
+                    return result * signs[i];
+                }
+            }
+            return 0;
+        });
+
+        for (int i = 0; i < decorated.size(); i++) {
+            records.set(i, decorated.get(i).record);
+        }
+    }
+
+    private Comparable sortValue(T record, String sortBy, List<T> allRecords) {
+        if (indexed) {
+            Integer rank = rankIndex(sortBy, allRecords).get(record);
+            return nonNull(rank) ? rank : Integer.MAX_VALUE;
+        }
+        return sortValueProvider.getValue(record, sortBy);
+    }
+
+    private Map<T, Integer> rankIndex(String sortBy, List<T> allRecords) {
+        Map<T, Integer> columnRanks = ranks.get(sortBy);
+        if (isNull(columnRanks)) {
+            Comparator<T> comparator = ascending(sortBy);
+            List<T> sorted = new ArrayList<>(allRecords);
+            sorted.sort(comparator);
+            columnRanks = new IdentityHashMap<>();
+            int rank = 0;
+            for (int i = 0; i < sorted.size(); i++) {
+                if (i > 0 && comparator.compare(sorted.get(i - 1), sorted.get(i)) != 0) {
+                    rank = i;
+                }
+                columnRanks.put(sorted.get(i), rank);
+            }
+            ranks.put(sortBy, columnRanks);
+        }
+        return columnRanks;
+    }
+
+    private Comparator<T> comparator(List<SortKey<T>> sortKeys, List<T> allRecords) {
+        Comparator<T> comparator = null;
+        for (SortKey<T> sortKey : sortKeys) {
+            Comparator<T> keyComparator = keyComparator(sortKey, allRecords);
+            comparator = isNull(comparator) ? keyComparator : comparator.thenComparing(keyComparator);
+        }
+        return comparator;
+    }
+
+    private Comparator<T> keyComparator(SortKey<T> sortKey, List<T> allRecords) {
+        String sortBy = sortKey.getColumnConfig().getName();
+        Comparator<T> comparator;
+        if (indexed) {
+            Map<T, Integer> columnRanks = rankIndex(sortBy, allRecords);
+            comparator = (first, second) -> compareValues(columnRanks.get(first), columnRanks.get(second));
+        } else if (nonNull(sortValueProvider)) {
+            comparator = ascending(sortBy);
+        } else {
+            return cachedComparator(sortBy, sortKey.getSortDirection());
+        }
+        return SortDirection.DESC.equals(sortKey.getSortDirection()) ? comparator.reversed() : comparator;
+    }
+
+    private Comparator<T> ascending(String sortBy) {
+        if (nonNull(sortValueProvider)) {
+            return (first, second) -> compareValues(sortValueProvider.getValue(first, sortBy), sortValueProvider.getValue(second, sortBy));
+        }
+        return cachedComparator(sortBy, SortDirection.ASC);
+    }
+
+    private Comparator<T> cachedComparator(String sortBy, SortDirection sortDirection) {
+        String key = sortBy + ":" + sortDirection.name();
+        Comparator<T> comparator = comparators.get(key);
+        if (isNull(comparator)) {
+            comparator = recordsSorter.onSortChange(sortBy, sortDirection);
+            comparators.put(key, comparator);
+        }
+        return comparator;
+    }
+
+    /**
+     * @return a comparator for the sort keys that does not use the rank index, to place single records in a list
+     * already sorted by these keys
+     */
+    Comparator<T> recordComparator(List<SortKey<T>> sortKeys) {
+        Comparator<T> comparator = null;
+        for (SortKey<T> sortKey : sortKeys) {
+            String sortBy = sortKey.getColumnConfig().getName();
+            Comparator<T> keyComparator;
+            if (nonNull(sortValueProvider)) {
+                keyComparator = ascending(sortBy);
+                if (SortDirection.DESC.equals(sortKey.getSortDirection())) {
+                    keyComparator = keyComparator.reversed();
+                }
+            } else {
+                keyComparator = cachedComparator(sortBy, sortKey.getSortDirection());
+            }
+            comparator = isNull(comparator) ? keyComparator : comparator.thenComparing(keyComparator);
+        }
+        return comparator;
+    }
+
+    /**
+     * @return the position after the last record of the range that compares lower than or equal to the record, so
+     * inserting there keeps the sort stable
+     */
+    static <T> int upperBound(List<T> records, int from, int to, T record, Comparator<T> comparator) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(records.get(middle), record) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Drops the rank index after records were added, removed or changed, it is computed again by the next sort.
+     */
+    void onRecordsChanged() {
+        ranks.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compareValues(Comparable first, Comparable second) {
+        if (first == second) {
+            return 0;
+        } else if (isNull(first)) {
+            return -1;
+        } else if (isNull(second)) {
+            return 1;
+        }
+        return first.compareTo(second);
+    }
+
+    void invalidate() {
+        ranks.clear();
+        lastSorted = null;
+        lastKeys = null;
+    }
+
+    RecordsSorter<T> getRecordsSorter() {
+        return recordsSorter;
+    }
+
+    void setRecordsSorter(RecordsSorter<T> recordsSorter) {
+        this.recordsSorter = recordsSorter;
+        this.comparators.clear();
+        invalidate();
+    }
+
+    SortValueProvider<T> getSortValueProvider() {
+        return sortValueProvider;
+    }
+
+    void setSortValueProvider(SortValueProvider<T> sortValueProvider) {
+        this.sortValueProvider = sortValueProvider;
+        invalidate();
+    }
+
+    boolean isIndexed() {
+        return indexed;
+    }
+
+    void setIndexed(boolean indexed) {
+        this.indexed = indexed;
+        invalidate();
+    }
+
+    private static class DecoratedRecord<T> {
+        private final T record;
+        private final Comparable[] values;
+
+        private DecoratedRecord(T record, Comparable[] values) {
+            this.record = record;
+            this.values = values;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.dominokit.domino.ui.datatable.store;
+
+import org.dominokit.domino.ui.datatable.events.SortKey;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+public class PageRequest<T> {
+
+    private final int offset;
+    private final int limit;
+    private final String searchText;
+    private final String searchField;
+    private final List<SortKey<T>> sortKeys;
+
+    public PageRequest(int offset, int limit, String searchText, String searchField, List<SortKey<T>> sortKeys) {
+        this.offset = offset;
+        this.limit = limit;
+        this.searchText = searchText;
+        this.searchField = searchField;
+        this.sortKeys = Collections.unmodifiableList(new ArrayList<>(sortKeys));
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public String getSearchText() {
+        return searchText;
+    }
+
+    public String getSearchField() {
+        return searchField;
+    }
+
+    public List<SortKey<T>> getSortKeys() {
+        return sortKeys;
+    }
+
+    public PageRequest<T> withOffset(int offset) {
+        return new PageRequest<>(offset, limit, searchText, searchField, sortKeys);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PageRequest<?> that = (PageRequest<?>) o;
+        return offset == that.offset &&
+                limit == that.limit &&
+                Objects.equals(searchText, that.searchText) &&
+                Objects.equals(searchField, that.searchField) &&
+                Objects.equals(sortKeys, that.sortKeys);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(offset, limit, searchText, searchField, sortKeys);
+    }
+}
@@ -0,0 +1,27 @@
+package org.dominokit.domino.ui.datatable.store;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface RecordsFetcher<T> {
+
+    /**
+     * Starts fetching the records of a page, the callback can be called synchronously or later.
+     *
+     * @param request  the requested page with the search and sort state of the table
+     * @param callback to be called with the records of the page or with the failure
+     * @return a handle to cancel the request, can be null if the request cannot be cancelled
+     */
+    RequestHandle fetch(PageRequest<T> request, FetchCallback<T> callback);
+
+    interface FetchCallback<T> {
+        void onSuccess(List<T> records, int totalCount);
+
+        void onFailed(Throwable error);
+    }
+
+    @FunctionalInterface
+    interface RequestHandle {
+        void cancel();
+    }
+}
@@ -0,0 +1,269 @@
+package org.dominokit.domino.ui.datatable.store;
+
+import org.dominokit.domino.ui.datatable.events.*;
+import org.dominokit.domino.ui.datatable.plugins.BodyScrollPlugin;
+import org.dominokit.domino.ui.pagination.HasPagination;
+import org.gwtproject.timer.client.Timer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.dominokit.domino.ui.datatable.events.BodyScrollEvent.BODY_SCROLL;
+import static org.dominokit.domino.ui.datatable.events.SearchEvent.SEARCH_EVENT;
+import static org.dominokit.domino.ui.datatable.events.SortEvent.SORT_EVENT;
+import static org.dominokit.domino.ui.datatable.events.TablePageChangeEvent.PAGINATION_EVENT;
+
+/**
+ * A {@link DataStore} that loads the records page by page through a {@link RecordsFetcher}.
+ * <p>
+ * With a pagination the store loads the active page, without a pagination the next page is appended when the table
+ * body is scrolled to the bottom. Search, sort and page events that arrive within the debounce delay are coalesced
+ * into a single request, a newer request cancels the one in flight and responses of superseded requests are ignored.
+ */
+public class RemoteDataStore<T> implements DataStore<T> {
+
+    private final List<StoreDataChangeListener<T>> listeners = new ArrayList<>();
+    private final RecordsFetcher<T> recordsFetcher;
+    private HasPagination pagination;
+    private int pageSize = 50;
+    private int debounceDelay = 200;
+    private Consumer<Throwable> failedHandler = error -> {
+    };
+
+    private String searchText;
+    private String searchField;
+    private List<SortKey<T>> sortKeys = new ArrayList<>();
+    private int page = 1;
+    private int loadedCount = 0;
+    private int totalCount = -1;
+
+    private int lastRequestId = 0;
+    private int completedRequestId = 0;
+    private RecordsFetcher.RequestHandle inFlight;
+    private ScheduledTask scheduledRequest;
+    private DebounceScheduler debounceScheduler = (task, delay) -> {
+        Timer timer = new Timer() {
+            @Override
+            public void run() {
+                task.run();
+            }
+        };
+        timer.schedule(delay);
+        return timer::cancel;
+    };
+
+    public RemoteDataStore(RecordsFetcher<T> recordsFetcher) {
+        this.recordsFetcher = recordsFetcher;
+    }
+
+    @Override
+    public void onDataChanged(StoreDataChangeListener<T> dataChangeListener) {
+        listeners.add(dataChangeListener);
+    }
+
+    @Override
+    public void removeDataChangeListener(StoreDataChangeListener<T> dataChangeListener) {
+        listeners.remove(dataChangeListener);
+    }
+
+    @Override
+    public void load() {
+        page = 1;
+        sendRequest(false);
+    }
+
+    @Override
+    public void registerListeners(TableEventBus eventBus) {
+        eventBus.addListener(SEARCH_EVENT, this)
+                .addListener(SORT_EVENT, this)
+                .addListener(PAGINATION_EVENT, this)
+                .addListener(BODY_SCROLL, this);
+    }
+
+    @Override
+    public void handleEvent(TableEvent event) {
+        switch (event.getType()) {
+            case SEARCH_EVENT:
+                SearchEvent searchEvent = (SearchEvent) event;
+                searchText = searchEvent.getSearchText();
+                searchField = searchEvent.getSearchField();
+                page = 1;
+                scheduleRequest();
+                break;
+            case SORT_EVENT:
+                sortKeys = ((SortEvent<T>) event).getSortKeys();
+                page = 1;
+                scheduleRequest();
+                break;
+            case PAGINATION_EVENT:
+                page = ((TablePageChangeEvent) event).getPage();
+                scheduleRequest();
+                break;
+            case BODY_SCROLL:
+                onBodyScroll((BodyScrollEvent) event);
+                break;
+        }
+    }
+
+    private void onBodyScroll(BodyScrollEvent event) {
+        if (BodyScrollPlugin.ScrollPosition.BOTTOM.equals(event.getScrollPosition())
+                && isNull(pagination)
+                && isNull(scheduledRequest)
+                && isNull(inFlight)
+                && loadedCount < totalCount) {
+            sendRequest(true);
+        }
+    }
+
+    private void scheduleRequest() {
+        cancelInFlight();
+        cancelScheduledRequest();
+        scheduledRequest = debounceScheduler.schedule(() -> {
+            scheduledRequest = null;
+            sendRequest(false);
+        }, debounceDelay);
+    }
+
+    private void cancelScheduledRequest() {
+        if (nonNull(scheduledRequest)) {
+            scheduledRequest.cancel();
+            scheduledRequest = null;
+        }
+    }
+
+    private void sendRequest(boolean append) {
+        cancelScheduledRequest();
+        cancelInFlight();
+        int requestId = ++lastRequestId;
+        PageRequest<T> request = createRequest(append);
+        RecordsFetcher.RequestHandle handle = recordsFetcher.fetch(request, new RecordsFetcher.FetchCallback<T>() {
+            @Override
+            public void onSuccess(List<T> records, int totalCount) {
+                if (requestId == lastRequestId) {
+                    complete(requestId);
+                    onResponse(records, totalCount, append);
+                }
+            }
+
+            @Override
+            public void onFailed(Throwable error) {
+                if (requestId == lastRequestId) {
+                    complete(requestId);
+                    failedHandler.accept(error);
+                }
+            }
+        });
+        if (completedRequestId != requestId) {
+            inFlight = handle;
+        }
+    }
+
+    private PageRequest<T> createRequest(boolean append) {
+        int limit = nonNull(pagination) ? pagination.getPageSize() : pageSize;
+        int offset;
+        if (nonNull(pagination)) {
+            offset = (page - 1) * limit;
+        } else {
+            offset = append ? loadedCount : 0;
+        }
+        return new PageRequest<>(offset, limit, searchText, searchField, sortKeys);
+    }
+
+    private void complete(int requestId) {
+        completedRequestId = requestId;
+        inFlight = null;
+    }
+
+    private void cancelInFlight() {
+        if (nonNull(inFlight)) {
+            inFlight.cancel();
+            inFlight = null;
+        }
+    }
+
+    private void onResponse(List<T> records, int totalCount, boolean append) {
+        loadedCount = append ? loadedCount + records.size() : records.size();
+        if (nonNull(pagination)) {
+            if (this.totalCount != totalCount) {
+                pagination.updatePagesByTotalCount(totalCount);
+                pagination.gotoPage(page, true);
+            } else if (pagination.activePage() != page) {
+                // a search or a sort goes back to the first page
+                pagination.gotoPage(page, true);
+            }
+        }
+        this.totalCount = totalCount;
+        DataChangedEvent<T> dataChangedEvent = new DataChangedEvent<>(records, append, totalCount);
+        listeners.forEach(listener -> listener.onDataChanged(dataChangedEvent));
+    }
+
+    public HasPagination getPagination() {
+        return pagination;
+    }
+
+    public RemoteDataStore<T> setPagination(HasPagination pagination) {
+        this.pagination = pagination;
+        return this;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * @param pageSize the number of records requested per page when the store has no pagination
+     * @return same RemoteDataStore instance
+     */
+    public RemoteDataStore<T> setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+        return this;
+    }
+
+    public int getDebounceDelay() {
+        return debounceDelay;
+    }
+
+    public RemoteDataStore<T> setDebounceDelay(int debounceDelay) {
+        this.debounceDelay = debounceDelay;
+        return this;
+    }
+
+    /**
+     * @param debounceScheduler runs the coalesced request after the debounce delay, the default uses a timer, tests
+     *                          can run the scheduled requests on demand without a browser
+     * @return same RemoteDataStore instance
+     */
+    public RemoteDataStore<T> setDebounceScheduler(DebounceScheduler debounceScheduler) {
+        this.debounceScheduler = debounceScheduler;
+        return this;
+    }
+
+    public RemoteDataStore<T> onRequestFailed(Consumer<Throwable> failedHandler) {
+        this.failedHandler = failedHandler;
+        return this;
+    }
+
+    public boolean isLoading() {
+        return nonNull(inFlight) || nonNull(scheduledRequest);
+    }
+
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    @FunctionalInterface
+    public interface DebounceScheduler {
+        /**
+         * Runs the task once after the delay unless the returned handle is cancelled before.
+         */
+        ScheduledTask schedule(Runnable task, int delay);
+    }
+
+    @FunctionalInterface
+    public interface ScheduledTask {
+        void cancel();
+    }
+}
@@ -0,0 +1,6 @@
+package org.dominokit.domino.ui.datatable.store;
+
+@FunctionalInterface
+public interface SearchTextProvider<T> {
+    String getText(T record, String searchField);
+}
@@ -0,0 +1,6 @@
+package org.dominokit.domino.ui.datatable.store;
+
+@FunctionalInterface
+public interface SortValueProvider<T> {
+    Comparable getValue(T record, String sortBy);
+}
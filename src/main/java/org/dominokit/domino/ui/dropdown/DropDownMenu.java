@@ -3,41 +3,30 @@ package org.dominokit.domino.ui.dropdown;
 import elemental2.dom.*;
 import jsinterop.base.Js;
 import org.dominokit.domino.ui.style.Style;
+import org.dominokit.domino.ui.utils.DocumentEventsHub;
+import org.dominokit.domino.ui.utils.DocumentEventsHub.EventHandle;
 import org.dominokit.domino.ui.utils.ElementUtil;
 import org.jboss.gwt.elemento.core.Elements;
 import org.jboss.gwt.elemento.core.IsElement;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 import static elemental2.dom.DomGlobal.document;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 public class DropDownMenu implements IsElement<HTMLUListElement> {
 
+    private static final Set<DropDownMenu> openedMenus = Collections.newSetFromMap(new IdentityHashMap<>());
+
     private HTMLUListElement element = Elements.ul().css("dropdown-menu").asElement();
     private HTMLElement targetElement;
     private DropDownPosition position = DropDownPosition.BOTTOM;
     private List<DropdownAction> actions = new ArrayList<>();
-    private boolean touchMoved;
+    private EventHandle outsideClickHandle;
 
     public DropDownMenu(HTMLElement targetElement) {
         this.targetElement = targetElement;
-        EventListener listener = this::closeAllGroups;
-        document.addEventListener("click", listener);
-        document.addEventListener("touchend", evt -> {
-            if (!touchMoved) {
-                closeAllGroups(evt);
-            }
-            touchMoved = false;
-        });
-        document.addEventListener("touchmove", evt -> this.touchMoved = true);
-    }
-
-    private void closeAllGroups(Event evt) {
-        HTMLElement element = Js.uncheckedCast(evt.target);
-        if (!this.element.contains(element)) {
-            closeAllMenus();
-        }
     }
 
     private void close(HTMLElement item) {
@@ -75,6 +64,11 @@ public class DropDownMenu implements IsElement<HTMLUListElement> {
 
     public void close() {
         Style.of(element).setDisplay("none");
+        if (nonNull(outsideClickHandle)) {
+            outsideClickHandle.remove();
+            outsideClickHandle = null;
+        }
+        openedMenus.remove(this);
     }
 
     public void open() {
@@ -83,6 +77,11 @@ public class DropDownMenu implements IsElement<HTMLUListElement> {
         }
         Style.of(element).setDisplay("block");
         position.position(element, targetElement);
+        openedMenus.add(this);
+        if (isNull(outsideClickHandle)) {
+            outsideClickHandle = DocumentEventsHub.addOutsideClickListener(evt -> close(), element, targetElement)
+                    .releaseOnDetach(targetElement);
+        }
     }
 
     public DropDownMenu setPosition(DropDownPosition position) {
@@ -106,6 +105,11 @@ public class DropDownMenu implements IsElement<HTMLUListElement> {
     }
 
     public void closeAllMenus() {
+        // opened instances are closed so their outside click handles are released, the other dropdown menus of the
+        // page are hidden by style
+        if (!openedMenus.isEmpty()) {
+            new ArrayList<>(openedMenus).forEach(DropDownMenu::close);
+        }
         NodeList<Element> elementsByName = document.body.querySelectorAll(".dropdown-menu");
         for (int i = 0; i < elementsByName.length; i++) {
             HTMLElement item = Js.uncheckedCast(elementsByName.item(i));
@@ -0,0 +1,64 @@
+package org.dominokit.domino.ui.forms;
+
+import org.dominokit.domino.ui.utils.TextUtil;
+import org.gwtproject.timer.client.Timer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Objects.isNull;
+
+/**
+ * A {@link SelectOptionsSource} that serves pages from a list of options in memory, useful as a stand in for a server
+ * while testing. Options match a search text when their display value contains it, ignoring the case and the accents.
+ * With a delay greater than zero the responses are sent from a timer to simulate the network latency, otherwise the
+ * callback is called synchronously.
+ */
+public class InMemorySelectOptionsSource<T> implements SelectOptionsSource<T> {
+
+    private final List<SelectOption<T>> options;
+    private int delay = 0;
+
+    public InMemorySelectOptionsSource(List<SelectOption<T>> options) {
+        this.options = options;
+    }
+
+    @Override
+    public RequestHandle load(SelectOptionsRequest request, LoadCallback<T> callback) {
+        if (delay <= 0) {
+            respond(request, callback);
+            return () -> {
+            };
+        }
+        Timer timer = new Timer() {
+            @Override
+            public void run() {
+                respond(request, callback);
+            }
+        };
+        timer.schedule(delay);
+        return timer::cancel;
+    }
+
+    private void respond(SelectOptionsRequest request, LoadCallback<T> callback) {
+        String searchText = normalize(request.getSearchText());
+        List<SelectOption<T>> matching = new ArrayList<>();
+        for (SelectOption<T> option : options) {
+            if (normalize(option.getDisplayValue()).contains(searchText)) {
+                matching.add(option);
+            }
+        }
+        int fromIndex = Math.min(request.getOffset(), matching.size());
+        int toIndex = Math.min(fromIndex + request.getLimit(), matching.size());
+        callback.onSuccess(new ArrayList<>(matching.subList(fromIndex, toIndex)), toIndex < matching.size());
+    }
+
+    private static String normalize(String value) {
+        return isNull(value) ? "" : TextUtil.foldAccents(value).toLowerCase();
+    }
+
+    public InMemorySelectOptionsSource<T> setDelay(int delay) {
+        this.delay = delay;
+        return this;
+    }
+}
@@ -6,17 +6,20 @@ import elemental2.svg.SVGElement;
 import jsinterop.base.Js;
 import org.dominokit.domino.ui.style.Color;
 import org.dominokit.domino.ui.style.Style;
+import org.dominokit.domino.ui.utils.DocumentEventsHub;
+import org.dominokit.domino.ui.utils.DocumentEventsHub.EventHandle;
+import org.dominokit.domino.ui.utils.ElementUtil;
 import org.dominokit.domino.ui.utils.Focusable;
 import org.dominokit.domino.ui.utils.IsReadOnly;
 import org.jboss.gwt.elemento.core.Elements;
 import org.jboss.gwt.elemento.core.IsElement;
 import org.jboss.gwt.elemento.template.DataElement;
 import org.jboss.gwt.elemento.template.Templated;
+import org.gwtproject.timer.client.Timer;
 
 import java.util.*;
 import java.util.stream.Collectors;
 
-import static elemental2.dom.DomGlobal.document;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.dominokit.domino.ui.utils.ElementUtil.*;
@@ -30,13 +33,14 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
     private static final String KEYDOWN = "keydown";
     private static final String FOCUSED = "focused";
     private static final String TOUCH_START_EVENT = "touchend";
+    private static final Set<Select<?>> openedSelects = Collections.newSetFromMap(new IdentityHashMap<>());
 
     private HTMLDivElement container = div().css("form-group").asElement();
     private SelectElement selectElement = SelectElement.create();
     private HTMLElement leftAddonContainer = div().css("input-addon-container").asElement();
     private HTMLElement rightAddonContainer = div().css("input-addon-container").asElement();
-    private LinkedHashMap<String, SelectOption<T>> searchableOptions = new LinkedHashMap<>();
     private LinkedList<SelectOption<T>> options = new LinkedList<>();
+    private Map<T, SelectOption<T>> optionsByValue = new HashMap<>();
     private SelectOption<T> selectedOption;
     private List<SelectionHandler<T>> selectionHandlers = new ArrayList<>();
     private SelectionHandler<T> autoValidationHandler;
@@ -48,9 +52,23 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
     private HTMLElement defaultNoSearchResultsElement = li().css("no-results").style("display: none;").asElement();
     private HTMLElement noSearchResultsElement;
     private String noResultsElementDisplay;
-    private boolean caseSensitiveSearch = false;
     private List<SelectOptionGroup<T>> groups = new ArrayList<>();
-    private boolean touchMoved;
+    private EventHandle outsideClickHandle;
+    private Map<Node, SelectOption<T>> renderedOptions = new IdentityHashMap<>();
+    private VirtualOptionsList<T> virtualOptionsList;
+    private int optionHeight = 39;
+    private final SelectSearchIndex<T> searchIndex = new SelectSearchIndex<>();
+    private int searchDelay = 100;
+    private final Timer searchTimer = new Timer() {
+        @Override
+        public void run() {
+            doSearch();
+        }
+    };
+    private SelectOptionsLoader<T> optionsLoader;
+    private int optionsPageSize = 50;
+    private int optionsCacheSize = 10;
+    private HTMLElement loadingElement = li().css("select-options-loading").textContent("Loading...").asElement();
 
     public Select() {
         initListeners();
@@ -66,18 +84,28 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
     }
 
     private void initListeners() {
-        EventListener hideAllListener = this::hideAllMenus;
-        document.addEventListener(CLICK_EVENT, hideAllListener);
-        document.addEventListener("touchend", evt -> {
-            if (!touchMoved) {
-                hideAllListener.handleEvent(evt);
+        selectElement.getOptionsList().addEventListener(KEYDOWN, new NavigateOptionsKeyListener());
+        selectElement.getOptionsList().addEventListener(CLICK_EVENT, evt -> {
+            SelectOption<T> option = findOption(Js.uncheckedCast(evt.target));
+            if (nonNull(option)) {
+                doSelectOption(option);
+                evt.stopPropagation();
+            }
+        });
+        selectElement.getOptionsList().addEventListener(TOUCH_START_EVENT, evt -> {
+            SelectOption<T> option = findOption(Js.uncheckedCast(evt.target));
+            if (nonNull(option) && !DocumentEventsHub.isTouchMoved()) {
+                doSelectOption(option);
+                evt.preventDefault();
+            }
+        });
+        selectElement.getOptionsList().addEventListener("scroll", evt -> {
+            HTMLUListElement optionsList = selectElement.getOptionsList();
+            if (nonNull(optionsLoader)
+                    && optionsList.scrollTop + optionsList.clientHeight >= optionsList.scrollHeight - optionHeight * 2) {
+                optionsLoader.loadNextPage();
             }
-            touchMoved = false;
         });
-
-        document.addEventListener("touchmove", evt -> this.touchMoved = true);
-
-        document.body.addEventListener(KEYDOWN, new NavigateOptionsKeyListener());
 
         EventListener clickListener = evt -> {
             open();
@@ -95,34 +123,62 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
             }
         });
 
-        selectElement.getSearchBox().addEventListener("input", evt -> doSearch());
+        selectElement.getSearchBox().addEventListener("input", evt -> {
+            searchTimer.cancel();
+            if (searchDelay > 0) {
+                searchTimer.schedule(searchDelay);
+            } else {
+                doSearch();
+            }
+        });
         selectElement.getSearchBox().addEventListener(KEYDOWN, evt -> {
             KeyboardEvent keyboardEvent = (KeyboardEvent) evt;
+            if (searchTimer.isRunning()) {
+                searchTimer.cancel();
+                doSearch();
+            }
             if (isArrowUp(keyboardEvent)) {
-                options.getLast().focus();
+                if (isVirtualOptions()) {
+                    virtualOptionsList.focusLast();
+                } else {
+                    options.getLast().focus();
+                }
                 evt.preventDefault();
             } else if (isArrowDown(keyboardEvent)) {
-                options.stream().filter(so -> !isHidden(so))
-                        .findFirst().ifPresent(SelectOption::focus);
+                if (isVirtualOptions()) {
+                    virtualOptionsList.focusFirst();
+                } else {
+                    options.stream().filter(so -> !isHidden(so))
+                            .findFirst().ifPresent(SelectOption::focus);
+                }
                 evt.preventDefault();
             }
         });
     }
 
-    private boolean isHidden(SelectOption<T> option) {
-        return option.asElement().classList.contains("hidden");
+    /**
+     * @return the rendered option that contains the node, found from the list item that holds the node
+     */
+    private SelectOption<T> findOption(Node node) {
+        HTMLUListElement optionsList = selectElement.getOptionsList();
+        Node item = node;
+        while (nonNull(item) && item.parentNode != optionsList) {
+            item = item.parentNode;
+        }
+        return nonNull(item) ? renderedOptions.get(item) : null;
     }
 
-    private void hideAllMenus(Event evt) {
-        HTMLElement element = Js.uncheckedCast(evt.target);
-        if (!selectElement.getFormControl().contains(element)) {
-            hideAllMenus();
-        }
+    private boolean isHidden(SelectOption<T> option) {
+        return !searchIndex.isShown(option);
     }
 
     private void doSearch() {
         if (searchable) {
             String searchValue = selectElement.getSearchBox().value;
+            if (nonNull(optionsLoader)) {
+                optionsLoader.search(searchValue);
+                return;
+            }
             boolean isThereValues = changeOptionsVisibility(searchValue);
 
             if (!isThereValues) {
@@ -134,23 +190,28 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
     }
 
     private boolean changeOptionsVisibility(String searchValue) {
-        boolean isThereValues = false;
-        for (Map.Entry<String, SelectOption<T>> entry : searchableOptions.entrySet()) {
-            boolean contains;
-            if (caseSensitiveSearch)
-                contains = entry.getKey().contains(searchValue);
-            else
-                contains = entry.getKey().toLowerCase().contains(searchValue.toLowerCase());
-
-            if (!contains) {
-                entry.getValue().asElement().classList.add("hidden");
-            } else {
-                isThereValues = true;
-                entry.getValue().asElement().classList.remove("hidden");
+        boolean changed;
+        if (isVirtualOptions()) {
+            changed = searchIndex.search(searchValue, (option, shown) -> {
+            });
+            if (changed) {
+                virtualOptionsList.setFilter(searchIndex::isShown);
             }
+        } else {
+            changed = searchIndex.search(searchValue, this::setOptionVisibility);
+            if (changed) {
+                groups.forEach(group -> group.changeVisibility(searchIndex::isShown));
+            }
+        }
+        return searchIndex.hasShownOptions();
+    }
+
+    private void setOptionVisibility(SelectOption<T> option, boolean shown) {
+        if (shown) {
+            option.asElement().classList.remove("hidden");
+        } else {
+            option.asElement().classList.add("hidden");
         }
-        groups.forEach(SelectOptionGroup::changeVisibility);
-        return isThereValues;
     }
 
     private void showNoResultsElement(String searchValue) {
@@ -171,11 +232,14 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
     }
 
     public Select<T> clearSearch() {
-        for (SelectOption<T> option : options) {
-            option.asElement().classList.remove("hidden");
-        }
+        searchTimer.cancel();
         selectElement.getSearchBox().value = "";
         hideNoResultsElement();
+        if (nonNull(optionsLoader)) {
+            optionsLoader.search("");
+        } else {
+            changeOptionsVisibility("");
+        }
         return this;
     }
 
@@ -183,22 +247,253 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
         if (isEnabled() && !isReadOnly()) {
             hideAllMenus();
             doOpen();
-            if (nonNull(getSelectedOption()))
+            if (searchable) {
+                clearSearch();
+            } else if (nonNull(optionsLoader)) {
+                optionsLoader.search("");
+            }
+            if (isVirtualOptions()) {
+                if (nonNull(getSelectedOption()))
+                    virtualOptionsList.focus(getSelectedOption());
+                else
+                    virtualOptionsList.focusFirst();
+            } else if (nonNull(getSelectedOption()))
                 getSelectedOption().focus();
             else if (!options.isEmpty())
                 options.getFirst().focus();
-            if (searchable) {
-                clearSearch();
+        }
+        return this;
+    }
+
+    /**
+     * Renders only the options in view while the options list is scrolled, for selects with thousands of options.
+     * Options, group headers and dividers are rendered with the same height, and the elements of an option are created
+     * the first time it is scrolled into view. Options added in this mode do not get a hidden option in the select
+     * menu element.
+     *
+     * @param virtualOptions true to render only the options in view
+     * @return same Select instance
+     */
+    public Select<T> setVirtualOptions(boolean virtualOptions) {
+        HTMLUListElement optionsList = selectElement.getOptionsList();
+        if (virtualOptions && !isVirtualOptions()) {
+            List<IsElement<HTMLLIElement>> entries = new ArrayList<>();
+            Node child = optionsList.firstChild;
+            while (nonNull(child)) {
+                Node next = child.nextSibling;
+                if (child != defaultNoSearchResultsElement && child != noSearchResultsElement) {
+                    entries.add(entryOf(child));
+                    optionsList.removeChild(child);
+                }
+                child = next;
             }
+            renderedOptions.clear();
+            virtualOptionsList = new VirtualOptionsList<>(optionsList, renderedOptions);
+            virtualOptionsList.setEntryHeight(optionHeight);
+            entries.forEach(virtualOptionsList::add);
+        } else if (!virtualOptions && isVirtualOptions()) {
+            virtualOptionsList.destroy();
+            for (IsElement<HTMLLIElement> entry : virtualOptionsList.getEntries()) {
+                HTMLLIElement element = entry.asElement();
+                Style.of(element).removeProperty("height").removeProperty("overflow");
+                optionsList.appendChild(element);
+                if (entry instanceof SelectOption) {
+                    renderedOptions.put(element, (SelectOption<T>) entry);
+                }
+            }
+            virtualOptionsList = null;
         }
         return this;
     }
 
+    private IsElement<HTMLLIElement> entryOf(Node child) {
+        HTMLLIElement element = Js.uncheckedCast(child);
+        if (renderedOptions.containsKey(child)) {
+            element.classList.remove("hidden");
+            return renderedOptions.get(child);
+        }
+        for (SelectOptionGroup<T> group : groups) {
+            if (group.asElement() == child) {
+                element.classList.remove("hidden");
+                return group;
+            }
+        }
+        return () -> element;
+    }
+
+    public boolean isVirtualOptions() {
+        return nonNull(virtualOptionsList);
+    }
+
+    /**
+     * @param optionHeight the height in pixels every entry of the options list is rendered with in virtual mode
+     * @return same Select instance
+     */
+    public Select<T> setOptionHeight(int optionHeight) {
+        this.optionHeight = optionHeight;
+        if (isVirtualOptions()) {
+            virtualOptionsList.setEntryHeight(optionHeight);
+        }
+        return this;
+    }
+
+    public int getOptionHeight() {
+        return optionHeight;
+    }
+
     public Select<T> setCaseSensitiveSearch(boolean caseSensitiveSearch) {
-        this.caseSensitiveSearch = caseSensitiveSearch;
+        searchIndex.setCaseSensitive(caseSensitiveSearch);
+        return this;
+    }
+
+    /**
+     * @param searchDelay the delay in milliseconds between the last key stroke in the search box and the search, 0 to
+     *                    search on every key stroke
+     * @return same Select instance
+     */
+    public Select<T> setSearchDelay(int searchDelay) {
+        this.searchDelay = searchDelay;
+        return this;
+    }
+
+    public int getSearchDelay() {
+        return searchDelay;
+    }
+
+    /**
+     * Indexes the trigrams of the options display values so a search only checks the options sharing a trigram with
+     * the search text, for selects with many options. The index is built on the first search that uses it.
+     *
+     * @param trigramSearch true to search with a trigram index
+     * @return same Select instance
+     */
+    public Select<T> setTrigramSearch(boolean trigramSearch) {
+        searchIndex.setTrigramIndexed(trigramSearch);
+        return this;
+    }
+
+    public boolean isTrigramSearch() {
+        return searchIndex.isTrigramIndexed();
+    }
+
+    /**
+     * Loads the options from a source instead of adding them up front, the first page is loaded when the select is
+     * opened, the next pages when the options list is scrolled to the bottom, and a search asks the source for the
+     * options matching the search text. Options added with {@link #addOption(SelectOption)} are replaced by the loaded
+     * ones, and the selected option is kept when it is not part of the loaded options.
+     *
+     * @param optionsSource the source to load the options from, null to stop loading from a source
+     * @return same Select instance
+     */
+    public Select<T> setOptionsSource(SelectOptionsSource<T> optionsSource) {
+        if (nonNull(optionsLoader)) {
+            optionsLoader.reset();
+        }
+        detachAllOptions();
+        if (nonNull(optionsSource)) {
+            optionsLoader = new SelectOptionsLoader<>(optionsView(), optionsSource);
+            optionsLoader.setPageSize(optionsPageSize);
+            optionsLoader.setCacheSize(optionsCacheSize);
+        } else {
+            optionsLoader = null;
+        }
+        return this;
+    }
+
+    public Select<T> setOptionsPageSize(int pageSize) {
+        this.optionsPageSize = pageSize;
+        if (nonNull(optionsLoader)) {
+            optionsLoader.setPageSize(pageSize);
+        }
         return this;
     }
 
+    /**
+     * @param cacheSize the number of search texts whose loaded options are kept
+     * @return same Select instance
+     */
+    public Select<T> setOptionsCacheSize(int cacheSize) {
+        this.optionsCacheSize = cacheSize;
+        if (nonNull(optionsLoader)) {
+            optionsLoader.setCacheSize(cacheSize);
+        }
+        return this;
+    }
+
+    /**
+     * Forgets the options loaded from the source, they are loaded again the next time the select is opened.
+     *
+     * @return same Select instance
+     */
+    public Select<T> reloadOptions() {
+        if (nonNull(optionsLoader)) {
+            optionsLoader.reset();
+            detachAllOptions();
+            if (isOpened()) {
+                optionsLoader.search(searchable ? selectElement.getSearchBox().value : "");
+            }
+        }
+        return this;
+    }
+
+    private SelectOptionsLoader.OptionsView<T> optionsView() {
+        return new SelectOptionsLoader.OptionsView<T>() {
+            @Override
+            public void showLoadedOptions(List<SelectOption<T>> loadedOptions) {
+                Select.this.showLoadedOptions(loadedOptions);
+            }
+
+            @Override
+            public void appendLoadedOptions(List<SelectOption<T>> loadedOptions) {
+                Select.this.appendLoadedOptions(loadedOptions);
+            }
+
+            @Override
+            public void onOptionsLoaded(String searchText, boolean empty) {
+                Select.this.onOptionsLoaded(searchText, empty);
+            }
+
+            @Override
+            public void setLoading(boolean loading) {
+                Select.this.setLoading(loading);
+            }
+        };
+    }
+
+    private void showLoadedOptions(List<SelectOption<T>> loadedOptions) {
+        detachAllOptions();
+        selectElement.getOptionsList().scrollTop = 0;
+        appendLoadedOptions(loadedOptions);
+    }
+
+    private void appendLoadedOptions(List<SelectOption<T>> loadedOptions) {
+        for (SelectOption<T> option : loadedOptions) {
+            if (nonNull(selectedOption) && selectedOption != option
+                    && Objects.equals(selectedOption.getValue(), option.getValue())) {
+                selectedOption.deselect(true);
+                selectedOption = option;
+                option.select(true);
+            }
+            addOption(option);
+        }
+    }
+
+    private void onOptionsLoaded(String searchText, boolean empty) {
+        if (empty && !searchText.isEmpty()) {
+            showNoResultsElement(searchText);
+        } else {
+            hideNoResultsElement();
+        }
+    }
+
+    private void setLoading(boolean loading) {
+        if (loading) {
+            selectElement.getOptionsList().appendChild(loadingElement);
+        } else {
+            loadingElement.remove();
+        }
+    }
+
     public Select(String label) {
         this();
         setLabel(label);
@@ -215,15 +510,37 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
 
     private void doOpen() {
         selectElement.getFormControl().classList.add(OPEN);
+        if (isVirtualOptions()) {
+            virtualOptionsList.render();
+        }
+        openedSelects.add(this);
+        if (isNull(outsideClickHandle)) {
+            outsideClickHandle = DocumentEventsHub.addOutsideClickListener(evt -> doClose(), selectElement.getFormControl())
+                    .releaseOnDetach(container)
+                    .onRelease(this::onOutsideClickReleased);
+        }
+    }
+
+    private void onOutsideClickReleased() {
+        openedSelects.remove(this);
+        outsideClickHandle = null;
+    }
+
+    private void doClose() {
+        close(selectElement.getFormControl());
+        openedSelects.remove(this);
+        if (nonNull(outsideClickHandle)) {
+            outsideClickHandle.remove();
+        }
     }
 
+    /**
+     * Closes the menus of the opened selects, the selects register themselves when opened so no lookup in the
+     * document is needed.
+     */
     public void hideAllMenus() {
-        NodeList<Element> elementsByName = document.body
-                .getElementsByClassName("bootstrap-select");
-        for (int i = 0; i < elementsByName.length; i++) {
-            Element item = elementsByName.item(i);
-            if (item.classList.contains(OPEN))
-                close(item);
+        if (!openedSelects.isEmpty()) {
+            new ArrayList<>(openedSelects).forEach(Select::doClose);
         }
     }
 
@@ -235,7 +552,7 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
     }
 
     public void close() {
-        close(selectElement.getFormControl());
+        doClose();
         selectElement.getSelectMenu().focus();
     }
 
@@ -260,13 +577,21 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
     }
 
     public Select<T> divider() {
-        selectElement.getOptionsList().appendChild(li().css("divider").asElement());
+        if (isVirtualOptions()) {
+            virtualOptionsList.addDivider();
+        } else {
+            selectElement.getOptionsList().appendChild(li().css("divider").asElement());
+        }
         return this;
     }
 
     public Select<T> addGroup(SelectOptionGroup<T> group) {
         groups.add(group);
-        selectElement.getOptionsList().appendChild(group.asElement());
+        if (isVirtualOptions()) {
+            virtualOptionsList.add(group);
+        } else {
+            selectElement.getOptionsList().appendChild(group.asElement());
+        }
         group.addOptionsTo(this);
         return this;
     }
@@ -278,19 +603,14 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
 
     public Select<T> addOption(SelectOption<T> option) {
         options.add(option);
-        searchableOptions.put(option.getDisplayValue(), option);
-        EventListener openOptionListener = evt -> {
-            doSelectOption(option);
-            evt.stopPropagation();
-        };
-        option.asElement().addEventListener(CLICK_EVENT, openOptionListener);
-        option.asElement().addEventListener(TOUCH_START_EVENT, evt -> {
-            if (!touchMoved) {
-                doSelectOption(option);
-                evt.preventDefault();
-            }
-        });
-        appendOptionValue(option);
+        optionsByValue.putIfAbsent(option.getValue(), option);
+        searchIndex.add(option);
+        if (isVirtualOptions()) {
+            virtualOptionsList.add(option);
+        } else {
+            renderedOptions.put(option.asElement(), option);
+            appendOptionValue(option);
+        }
         return this;
     }
 
@@ -333,9 +653,8 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
     }
 
     public Select<T> select(SelectOption<T> option, boolean silent) {
-        if (selectedOption != null)
-            if (!option.asElement().isEqualNode(selectedOption.asElement()))
-                selectedOption.deselect();
+        if (selectedOption != null && selectedOption != option)
+            selectedOption.deselect();
         selectElement.getSelectLabel().classList.add(FOCUSED);
         this.selectedOption = option;
         option.select();
@@ -399,15 +718,28 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
         return setValue(value, false);
     }
 
+    /**
+     * Selects the first option added with the value, the option is found by the value hash code.
+     *
+     * @param value  the value of the option to select
+     * @param silent true to not notify the selection handlers
+     * @return same Select instance
+     */
     public Select<T> setValue(T value, boolean silent) {
-        for (SelectOption<T> option : getOptions()) {
-            if (Objects.equals(option.getValue(), value)) {
-                select(option, silent);
-            }
+        SelectOption<T> option = optionsByValue.get(value);
+        if (nonNull(option)) {
+            select(option, silent);
         }
         return this;
     }
 
+    /**
+     * @return the first option added with the value, null if there is none
+     */
+    public SelectOption<T> getOptionByValue(T value) {
+        return optionsByValue.get(value);
+    }
+
     @Override
     public T getValue() {
         return isSelected() ? getSelectedOption().getValue() : null;
@@ -513,13 +845,32 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
     }
 
     public Select<T> removeOption(SelectOption<T> option) {
-        if (nonNull(option) && getOptions().contains(option)) {
+        if (nonNull(option) && optionsByValue.containsKey(option.getValue()) && options.remove(option)) {
             option.deselect(true);
-            option.asElement().remove();
+            unindexValue(option);
+            searchIndex.remove(option);
+            if (isVirtualOptions()) {
+                virtualOptionsList.remove(option);
+            } else {
+                renderedOptions.remove(option.asElement());
+                option.asElement().remove();
+            }
         }
         return this;
     }
 
+    private void unindexValue(SelectOption<T> option) {
+        if (optionsByValue.get(option.getValue()) == option) {
+            optionsByValue.remove(option.getValue());
+            for (SelectOption<T> other : options) {
+                if (Objects.equals(other.getValue(), option.getValue())) {
+                    optionsByValue.put(other.getValue(), other);
+                    break;
+                }
+            }
+        }
+    }
+
     public Select<T> removeOptions(Collection<SelectOption<T>> options) {
         if (nonNull(options) && !options.isEmpty() && !this.options.isEmpty()) {
             options.forEach(this::removeOption);
@@ -529,13 +880,26 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
 
     public Select<T> removeAllOptions() {
         if (nonNull(options) && !options.isEmpty()) {
-            options.forEach(this::removeOption);
-            options.clear();
+            options.forEach(option -> option.deselect(true));
+            detachAllOptions();
         }
         clear();
         return this;
     }
 
+    private void detachAllOptions() {
+        if (isVirtualOptions()) {
+            virtualOptionsList.clear();
+        } else {
+            options.forEach(option -> option.asElement().remove());
+            renderedOptions.clear();
+        }
+        searchIndex.clear();
+        options.clear();
+        optionsByValue.clear();
+        ElementUtil.clear(selectElement.getSelectMenu());
+    }
+
     public SelectElement getSelectElement() {
         return selectElement;
     }
@@ -673,7 +1037,7 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
     }
 
     public boolean containsValue(T value) {
-        return getValues().contains(value);
+        return optionsByValue.containsKey(value);
     }
 
     public Select<T> setSearchable(boolean searchable) {
@@ -807,28 +1171,31 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
         @Override
         public void handleEvent(Event evt) {
             KeyboardEvent keyboardEvent = (KeyboardEvent) evt;
-            HTMLElement element = Js.uncheckedCast(keyboardEvent.target);
-            for (SelectOption<T> option : options) {
-                if (option.asElement().contains(element)) {
-                    if (isArrowUp(keyboardEvent)) {
-                        focusPrev(option);
-                        evt.preventDefault();
-                    } else if (isArrowDown(keyboardEvent)) {
-                        focusNext(option);
-                        evt.preventDefault();
-                    }
+            SelectOption<T> option = findOption(Js.uncheckedCast(keyboardEvent.target));
+            if (isNull(option)) {
+                return;
+            }
+            if (isArrowUp(keyboardEvent)) {
+                focusPrev(option);
+                evt.preventDefault();
+            } else if (isArrowDown(keyboardEvent)) {
+                focusNext(option);
+                evt.preventDefault();
+            }
 
-                    if (isEnterKey(keyboardEvent) ||
-                            isSpaceKey(keyboardEvent)
-                            || isKeyOf("tab", keyboardEvent)) {
-                        doSelectOption(option);
-                        evt.preventDefault();
-                    }
-                }
+            if (isEnterKey(keyboardEvent) ||
+                    isSpaceKey(keyboardEvent)
+                    || isKeyOf("tab", keyboardEvent)) {
+                doSelectOption(option);
+                evt.preventDefault();
             }
         }
 
         private void focusNext(SelectOption<T> option) {
+            if (isVirtualOptions()) {
+                virtualOptionsList.focusNext(option);
+                return;
+            }
             int nextIndex = options.indexOf(option) + 1;
             int size = options.size();
             if (nextIndex >= size) {
@@ -845,6 +1212,10 @@ public class Select<T> extends BasicFormElement<Select<T>, T> implements Focusab
         }
 
         private void focusPrev(SelectOption<T> option) {
+            if (isVirtualOptions()) {
+                virtualOptionsList.focusPrevious(option);
+                return;
+            }
             int nextIndex = options.indexOf(option) - 1;
             if (nextIndex < 0) {
                 options.getLast().focus();
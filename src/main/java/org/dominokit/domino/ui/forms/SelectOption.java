@@ -11,6 +11,12 @@ import org.dominokit.domino.ui.utils.Selectable;
 import org.jboss.gwt.elemento.core.Elements;
 import org.jboss.gwt.elemento.core.IsElement;
 
+import static java.util.Objects.nonNull;
+
+/**
+ * An option of a {@link Select}, the elements of the option are created the first time they are needed so options
+ * that are never rendered by a virtual options list do not cost any DOM work.
+ */
 public class SelectOption<T> implements IsElement<HTMLLIElement>, HasValue<SelectOption, T>,
         HasBackground<SelectOption>, Selectable<SelectOption> {
 
@@ -22,15 +28,10 @@ public class SelectOption<T> implements IsElement<HTMLLIElement>, HasValue<Selec
     private HTMLAnchorElement aElement;
     private HTMLElement valueContainer;
     private HTMLElement checkMark;
+    private boolean selected = false;
+    private boolean grouped = false;
 
     public SelectOption(T value, String key, String displayValue) {
-        li = Elements.li().asElement();
-        aElement = Elements.a().attr("data-tokens", "null")
-                .attr("tabindex", "0").asElement();
-        valueContainer = Elements.span().css("text").asElement();
-        aElement.appendChild(valueContainer);
-        li.appendChild(aElement);
-        checkMark = Elements.span().css("glyphicon glyphicon-ok check-mark").asElement();
         setKey(key);
         setValue(value);
         setDisplayValue(displayValue);
@@ -48,8 +49,43 @@ public class SelectOption<T> implements IsElement<HTMLLIElement>, HasValue<Selec
         return new SelectOption<>(value, key);
     }
 
+    private void render() {
+        if (nonNull(li)) {
+            return;
+        }
+        li = Elements.li().asElement();
+        aElement = Elements.a().attr("data-tokens", "null")
+                .attr("tabindex", "0").asElement();
+        valueContainer = Elements.span().css("text").asElement();
+        valueContainer.textContent = displayValue;
+        aElement.appendChild(valueContainer);
+        li.appendChild(aElement);
+        checkMark = Elements.span().css("glyphicon glyphicon-ok check-mark").asElement();
+        if (grouped) {
+            aElement.classList.add("opt");
+        }
+        if (selected) {
+            li.classList.add(SELECTED);
+            aElement.appendChild(checkMark);
+        }
+    }
+
+    /**
+     * @return true if the elements of the option were created
+     */
+    public boolean isRendered() {
+        return nonNull(li);
+    }
+
+    void markGrouped() {
+        this.grouped = true;
+        if (isRendered()) {
+            aElement.classList.add("opt");
+        }
+    }
+
     public SelectOption<T> appendContent(Node node) {
-        aElement.appendChild(node);
+        getLinkElement().appendChild(node);
         return this;
     }
 
@@ -78,7 +114,9 @@ public class SelectOption<T> implements IsElement<HTMLLIElement>, HasValue<Selec
 
     public SelectOption<T> setDisplayValue(String displayValue) {
         this.displayValue = displayValue;
-        valueContainer.textContent = displayValue;
+        if (isRendered()) {
+            valueContainer.textContent = displayValue;
+        }
         return this;
     }
 
@@ -94,22 +132,28 @@ public class SelectOption<T> implements IsElement<HTMLLIElement>, HasValue<Selec
 
     @Override
     public SelectOption<T> select(boolean silent) {
-        asElement().classList.add(SELECTED);
-        aElement.appendChild(checkMark);
+        this.selected = true;
+        if (isRendered()) {
+            li.classList.add(SELECTED);
+            aElement.appendChild(checkMark);
+        }
         return this;
     }
 
     @Override
     public SelectOption<T> deselect(boolean silent) {
-        asElement().classList.remove(SELECTED);
-        if (aElement.contains(checkMark))
-            aElement.removeChild(checkMark);
+        this.selected = false;
+        if (isRendered()) {
+            li.classList.remove(SELECTED);
+            if (aElement.contains(checkMark))
+                aElement.removeChild(checkMark);
+        }
         return this;
     }
 
     @Override
     public boolean isSelected() {
-        return asElement().classList.contains(SELECTED);
+        return selected;
     }
 
     @Override
@@ -120,22 +164,26 @@ public class SelectOption<T> implements IsElement<HTMLLIElement>, HasValue<Selec
 
     @Override
     public HTMLLIElement asElement() {
+        render();
         return li;
     }
 
     public HTMLElement getCheckMark() {
+        render();
         return checkMark;
     }
 
     public HTMLElement getValueContainer() {
+        render();
         return valueContainer;
     }
 
     public HTMLAnchorElement getLinkElement() {
+        render();
         return aElement;
     }
 
     public void focus() {
-        aElement.focus();
+        getLinkElement().focus();
     }
 }
@@ -8,6 +8,7 @@ import org.jboss.gwt.elemento.core.IsElement;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 
 import static org.jboss.gwt.elemento.core.Elements.li;
 
@@ -41,7 +42,7 @@ public class SelectOptionGroup<T> implements IsElement<HTMLLIElement> {
     }
 
     public SelectOptionGroup<T> addOption(SelectOption<T> option) {
-        option.getLinkElement().classList.add("opt");
+        option.markGrouped();
         options.add(option);
         return this;
     }
@@ -55,8 +56,8 @@ public class SelectOptionGroup<T> implements IsElement<HTMLLIElement> {
         return element;
     }
 
-    boolean isAllHidden() {
-        return options.stream().allMatch(option -> option.asElement().classList.contains("hidden"));
+    boolean isAllHidden(Predicate<SelectOption<T>> isShown) {
+        return options.stream().noneMatch(isShown);
     }
 
     void hide() {
@@ -73,8 +74,8 @@ public class SelectOptionGroup<T> implements IsElement<HTMLLIElement> {
         }
     }
 
-    void changeVisibility() {
-        if (isAllHidden()) {
+    void changeVisibility(Predicate<SelectOption<T>> isShown) {
+        if (isAllHidden(isShown)) {
             hide();
         } else {
             show();
@@ -0,0 +1,150 @@
+package org.dominokit.domino.ui.forms;
+
+import org.dominokit.domino.ui.utils.LruCache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Loads the options of a {@link Select} from a {@link SelectOptionsSource} page by page. The pages loaded for a search
+ * text are cached so going back to a previous search shows its options without a request, and only one request is in
+ * flight at a time, starting a new search cancels it and a late response of a cancelled request is ignored.
+ */
+class SelectOptionsLoader<T> {
+
+    private final OptionsView<T> select;
+    private final SelectOptionsSource<T> source;
+    private final LruCache<String, LoadedOptions<T>> cache = new LruCache<>(10);
+    private int pageSize = 50;
+    private String searchText;
+    private LoadedOptions<T> current;
+    private PendingLoad pending;
+
+    SelectOptionsLoader(OptionsView<T> select, SelectOptionsSource<T> source) {
+        this.select = select;
+        this.source = source;
+    }
+
+    /**
+     * Shows the options of a search text, from the cache or from the first page loaded from the source.
+     */
+    void search(String text) {
+        String key = isNull(text) ? "" : text;
+        if (key.equals(searchText) && nonNull(current)) {
+            if (current.options.isEmpty()) {
+                loadNextPage();
+            }
+            return;
+        }
+        cancel();
+        searchText = key;
+        current = cache.get(key);
+        if (isNull(current)) {
+            current = new LoadedOptions<>();
+            cache.put(key, current);
+        }
+        select.showLoadedOptions(current.options);
+        if (current.options.isEmpty() && current.hasMore) {
+            loadPage();
+        } else {
+            select.onOptionsLoaded(key, current.options.isEmpty());
+        }
+    }
+
+    /**
+     * Loads the next page of the current search text unless a page is already being loaded or all were loaded.
+     */
+    void loadNextPage() {
+        if (nonNull(current) && current.hasMore && isNull(pending)) {
+            loadPage();
+        }
+    }
+
+    private void loadPage() {
+        LoadedOptions<T> target = current;
+        String text = searchText;
+        PendingLoad load = new PendingLoad();
+        pending = load;
+        select.setLoading(true);
+        SelectOptionsSource.RequestHandle handle = source.load(new SelectOptionsRequest(text, target.options.size(), pageSize),
+                new SelectOptionsSource.LoadCallback<T>() {
+                    @Override
+                    public void onSuccess(List<SelectOption<T>> options, boolean hasMore) {
+                        if (pending != load) {
+                            return;
+                        }
+                        pending = null;
+                        select.setLoading(false);
+                        target.options.addAll(options);
+                        target.hasMore = hasMore;
+                        select.appendLoadedOptions(options);
+                        select.onOptionsLoaded(text, target.options.isEmpty() && !hasMore);
+                    }
+
+                    @Override
+                    public void onFailed(Throwable error) {
+                        if (pending != load) {
+                            return;
+                        }
+                        pending = null;
+                        select.setLoading(false);
+                    }
+                });
+        if (pending == load) {
+            load.handle = handle;
+        }
+    }
+
+    void cancel() {
+        if (nonNull(pending)) {
+            if (nonNull(pending.handle)) {
+                pending.handle.cancel();
+            }
+            pending = null;
+            select.setLoading(false);
+        }
+    }
+
+    /**
+     * Cancels the request in flight and forgets the cached options, the next search loads from the source again.
+     */
+    void reset() {
+        cancel();
+        cache.clear();
+        searchText = null;
+        current = null;
+    }
+
+    void setPageSize(int pageSize) {
+        this.pageSize = Math.max(1, pageSize);
+    }
+
+    void setCacheSize(int cacheSize) {
+        cache.setMaxSize(Math.max(1, cacheSize));
+    }
+
+    /**
+     * The part of the {@link Select} that shows the loaded options.
+     */
+    interface OptionsView<T> {
+        void showLoadedOptions(List<SelectOption<T>> loadedOptions);
+
+        void appendLoadedOptions(List<SelectOption<T>> loadedOptions);
+
+        void onOptionsLoaded(String searchText, boolean empty);
+
+        void setLoading(boolean loading);
+    }
+
+    private static class LoadedOptions<T> {
+        private final List<SelectOption<T>> options = new ArrayList<>();
+        private boolean hasMore = true;
+    }
+
+    private static class PendingLoad {
+        private SelectOptionsSource.RequestHandle handle;
+    }
+}
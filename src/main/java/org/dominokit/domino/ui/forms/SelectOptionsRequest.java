@@ -0,0 +1,43 @@
+package org.dominokit.domino.ui.forms;
+
+import java.util.Objects;
+
+public class SelectOptionsRequest {
+
+    private final String searchText;
+    private final int offset;
+    private final int limit;
+
+    public SelectOptionsRequest(String searchText, int offset, int limit) {
+        this.searchText = searchText;
+        this.offset = offset;
+        this.limit = limit;
+    }
+
+    public String getSearchText() {
+        return searchText;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SelectOptionsRequest that = (SelectOptionsRequest) o;
+        return offset == that.offset &&
+                limit == that.limit &&
+                Objects.equals(searchText, that.searchText);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(searchText, offset, limit);
+    }
+}
@@ -0,0 +1,31 @@
+package org.dominokit.domino.ui.forms;
+
+import java.util.List;
+
+/**
+ * Provides the options of a {@link Select} page by page for a search text, so the options do not need to be loaded up
+ * front.
+ */
+@FunctionalInterface
+public interface SelectOptionsSource<T> {
+
+    /**
+     * Starts loading a page of options, the callback can be called synchronously or later.
+     *
+     * @param request  the search text and the page to load
+     * @param callback to be called with the options of the page or with the failure
+     * @return a handle to cancel the request, can be null if the request cannot be cancelled
+     */
+    RequestHandle load(SelectOptionsRequest request, LoadCallback<T> callback);
+
+    interface LoadCallback<T> {
+        void onSuccess(List<SelectOption<T>> options, boolean hasMore);
+
+        void onFailed(Throwable error);
+    }
+
+    @FunctionalInterface
+    interface RequestHandle {
+        void cancel();
+    }
+}
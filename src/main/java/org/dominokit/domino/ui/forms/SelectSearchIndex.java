@@ -0,0 +1,185 @@
+package org.dominokit.domino.ui.forms;
+
+import org.dominokit.domino.ui.utils.TextUtil;
+
+import java.util.*;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Searches the options of a {@link Select} by display value. The display values are normalized once when an option is
+ * added, accents are folded and the case is ignored unless the search is case sensitive. A search for a text that
+ * contains the previous search text only checks the previous matches, and with the trigram index enabled other
+ * searches only check the options that share the rarest trigram of the text.
+ * <p>
+ * The index keeps the visibility of every option and reports only the options whose visibility changed.
+ */
+class SelectSearchIndex<T> {
+
+    private static final int GRAM = 3;
+
+    private final List<Entry<T>> entries = new ArrayList<>();
+    private final Map<SelectOption<T>, Entry<T>> entriesByOption = new IdentityHashMap<>();
+    private Map<String, List<Entry<T>>> trigrams;
+    private boolean caseSensitive = false;
+    private boolean trigramIndexed = false;
+    private String lastText = "";
+    private List<Entry<T>> shownEntries;
+    private int generation = 0;
+
+    void add(SelectOption<T> option) {
+        Entry<T> entry = new Entry<>(option, normalize(option.getDisplayValue()));
+        entries.add(entry);
+        entriesByOption.put(option, entry);
+        if (nonNull(trigrams)) {
+            indexTrigrams(entry);
+        }
+        // a new option is shown whatever the current search is, the next search checks all the options again
+        shownEntries = null;
+    }
+
+    void remove(SelectOption<T> option) {
+        Entry<T> entry = entriesByOption.remove(option);
+        if (nonNull(entry)) {
+            entries.remove(entry);
+            trigrams = null;
+            shownEntries = null;
+            lastText = "";
+        }
+    }
+
+    void clear() {
+        entries.clear();
+        entriesByOption.clear();
+        trigrams = null;
+        shownEntries = null;
+        lastText = "";
+    }
+
+    /**
+     * Updates the visibility of the options for a search text.
+     *
+     * @param text     the search text
+     * @param listener called for every option whose visibility changed
+     * @return true if at least one option changed visibility
+     */
+    boolean search(String text, VisibilityListener<T> listener) {
+        String normalized = normalize(text);
+        List<Entry<T>> matches = new ArrayList<>();
+        generation++;
+        for (Entry<T> entry : candidates(normalized)) {
+            if (entry.text.contains(normalized)) {
+                entry.generation = generation;
+                matches.add(entry);
+            }
+        }
+
+        boolean changed = false;
+        for (Entry<T> entry : isNull(shownEntries) ? entries : shownEntries) {
+            if (entry.shown && entry.generation != generation) {
+                entry.shown = false;
+                listener.onVisibilityChanged(entry.option, false);
+                changed = true;
+            }
+        }
+        for (Entry<T> entry : matches) {
+            if (!entry.shown) {
+                entry.shown = true;
+                listener.onVisibilityChanged(entry.option, true);
+                changed = true;
+            }
+        }
+        lastText = normalized;
+        shownEntries = matches;
+        return changed;
+    }
+
+    private List<Entry<T>> candidates(String normalized) {
+        if (nonNull(shownEntries) && normalized.contains(lastText)) {
+            return shownEntries;
+        }
+        if (trigramIndexed && normalized.length() >= GRAM) {
+            if (isNull(trigrams)) {
+                trigrams = new HashMap<>();
+                entries.forEach(this::indexTrigrams);
+            }
+            List<Entry<T>> rarest = null;
+            for (int i = 0; i + GRAM <= normalized.length(); i++) {
+                List<Entry<T>> posting = trigrams.getOrDefault(normalized.substring(i, i + GRAM), Collections.emptyList());
+                if (isNull(rarest) || posting.size() < rarest.size()) {
+                    rarest = posting;
+                }
+            }
+            return rarest;
+        }
+        return entries;
+    }
+
+    private void indexTrigrams(Entry<T> entry) {
+        Set<String> entryTrigrams = new HashSet<>();
+        for (int i = 0; i + GRAM <= entry.text.length(); i++) {
+            entryTrigrams.add(entry.text.substring(i, i + GRAM));
+        }
+        for (String trigram : entryTrigrams) {
+            trigrams.computeIfAbsent(trigram, key -> new ArrayList<>()).add(entry);
+        }
+    }
+
+    boolean isShown(SelectOption<T> option) {
+        Entry<T> entry = entriesByOption.get(option);
+        return isNull(entry) || entry.shown;
+    }
+
+    boolean hasShownOptions() {
+        return isNull(shownEntries) ? !entries.isEmpty() : !shownEntries.isEmpty();
+    }
+
+    private String normalize(String value) {
+        if (isNull(value)) {
+            return "";
+        }
+        String folded = TextUtil.foldAccents(value);
+        return caseSensitive ? folded : folded.toLowerCase();
+    }
+
+    void setCaseSensitive(boolean caseSensitive) {
+        if (this.caseSensitive != caseSensitive) {
+            this.caseSensitive = caseSensitive;
+            for (Entry<T> entry : entries) {
+                entry.text = normalize(entry.option.getDisplayValue());
+            }
+            trigrams = null;
+            shownEntries = null;
+            lastText = "";
+        }
+    }
+
+    void setTrigramIndexed(boolean trigramIndexed) {
+        this.trigramIndexed = trigramIndexed;
+        if (!trigramIndexed) {
+            trigrams = null;
+        }
+    }
+
+    boolean isTrigramIndexed() {
+        return trigramIndexed;
+    }
+
+    @FunctionalInterface
+    interface VisibilityListener<T> {
+        void onVisibilityChanged(SelectOption<T> option, boolean shown);
+    }
+
+    private static class Entry<T> {
+        private final SelectOption<T> option;
+        private String text;
+        private boolean shown = true;
+        private int generation = 0;
+
+        private Entry(SelectOption<T> option, String text) {
+            this.option = option;
+            this.text = text;
+        }
+    }
+}
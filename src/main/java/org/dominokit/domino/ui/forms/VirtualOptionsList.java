@@ -0,0 +1,283 @@
+package org.dominokit.domino.ui.forms;
+
+import com.google.gwt.animation.client.AnimationScheduler;
+import elemental2.dom.EventListener;
+import elemental2.dom.HTMLLIElement;
+import elemental2.dom.HTMLUListElement;
+import elemental2.dom.Node;
+import org.dominokit.domino.ui.style.Style;
+import org.jboss.gwt.elemento.core.IsElement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.jboss.gwt.elemento.core.Elements.li;
+
+/**
+ * Renders only the entries of a {@link Select} options list that intersect the visible part of the list plus a
+ * buffer, the entries above and below are replaced by two spacers as high as the entries they stand for. The entries
+ * are the options, the group headers and the dividers in the order they were added, they all get the same height and
+ * an option creates its elements the first time it is rendered.
+ */
+class VirtualOptionsList<T> {
+
+    private static final String SPACER = "select-options-spacer";
+    private static final int DEFAULT_VIEWPORT_HEIGHT = 296;
+
+    private final HTMLUListElement optionsList;
+    private final Map<Node, SelectOption<T>> renderedOptions;
+    private final List<IsElement<HTMLLIElement>> entries = new ArrayList<>();
+    private List<IsElement<HTMLLIElement>> visibleEntries = new ArrayList<>();
+    private final HTMLLIElement topSpacer = li().css(SPACER).asElement();
+    private final HTMLLIElement bottomSpacer = li().css(SPACER).asElement();
+    private final EventListener scrollListener;
+    private Predicate<SelectOption<T>> filter;
+    private int visibleOptionsCount = 0;
+    private int entryHeight = 39;
+    private int buffer = 5;
+    private int first = 0;
+    private int last = 0;
+    private boolean stale = true;
+    private boolean frameRequested = false;
+
+    VirtualOptionsList(HTMLUListElement optionsList, Map<Node, SelectOption<T>> renderedOptions) {
+        this.optionsList = optionsList;
+        this.renderedOptions = renderedOptions;
+        optionsList.appendChild(topSpacer);
+        optionsList.appendChild(bottomSpacer);
+        this.scrollListener = evt -> requestRender();
+        optionsList.addEventListener("scroll", scrollListener);
+    }
+
+    private void requestRender() {
+        if (!frameRequested) {
+            frameRequested = true;
+            AnimationScheduler.get().requestAnimationFrame(timestamp -> {
+                frameRequested = false;
+                render();
+            });
+        }
+    }
+
+    /**
+     * Adds an entry at the end of the list, the list is rendered again in the next animation frame so adding many
+     * entries costs a single render.
+     *
+     * @param entry an option, a group header or a divider
+     */
+    void add(IsElement<HTMLLIElement> entry) {
+        entries.add(entry);
+        stale = true;
+        requestRender();
+    }
+
+    void addDivider() {
+        HTMLLIElement divider = li().css("divider").asElement();
+        add(() -> divider);
+    }
+
+    void remove(SelectOption<T> option) {
+        entries.remove(option);
+        stale = true;
+        render();
+    }
+
+    void clear() {
+        entries.clear();
+        stale = true;
+        render();
+    }
+
+    void setFilter(Predicate<SelectOption<T>> filter) {
+        this.filter = filter;
+        this.stale = true;
+        optionsList.scrollTop = 0;
+        render();
+    }
+
+    boolean hasVisibleOptions() {
+        update();
+        return visibleOptionsCount > 0;
+    }
+
+    List<IsElement<HTMLLIElement>> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Detaches the rendered entries, the spacers and the scroll listener from the options list.
+     */
+    void destroy() {
+        detach(first, last);
+        first = 0;
+        last = 0;
+        topSpacer.remove();
+        bottomSpacer.remove();
+        optionsList.removeEventListener("scroll", scrollListener);
+    }
+
+    private void update() {
+        if (!stale) {
+            return;
+        }
+        detach(first, last);
+        first = 0;
+        last = 0;
+        List<IsElement<HTMLLIElement>> visible = new ArrayList<>();
+        int optionsCount = 0;
+        IsElement<HTMLLIElement> pendingGroup = null;
+        for (IsElement<HTMLLIElement> entry : entries) {
+            if (entry instanceof SelectOptionGroup) {
+                pendingGroup = entry;
+            } else if (entry instanceof SelectOption) {
+                if (isNull(filter) || filter.test((SelectOption<T>) entry)) {
+                    if (nonNull(pendingGroup)) {
+                        visible.add(pendingGroup);
+                        pendingGroup = null;
+                    }
+                    visible.add(entry);
+                    optionsCount++;
+                }
+            } else {
+                pendingGroup = null;
+                visible.add(entry);
+            }
+        }
+        visibleEntries = visible;
+        visibleOptionsCount = optionsCount;
+        stale = false;
+    }
+
+    void render() {
+        update();
+        double viewportHeight = optionsList.clientHeight > 0 ? optionsList.clientHeight : DEFAULT_VIEWPORT_HEIGHT;
+        int newFirst = Math.max(0, (int) Math.floor(optionsList.scrollTop / entryHeight) - buffer);
+        int newLast = Math.min(visibleEntries.size(), (int) Math.ceil((optionsList.scrollTop + viewportHeight) / entryHeight) + buffer);
+        newFirst = Math.min(newFirst, newLast);
+        if (newFirst == first && newLast == last && first < last) {
+            return;
+        }
+        if (newLast <= first || newFirst >= last) {
+            detach(first, last);
+            for (int i = newFirst; i < newLast; i++) {
+                attach(i, bottomSpacer);
+            }
+        } else {
+            detach(first, newFirst);
+            detach(newLast, last);
+            Node firstRendered = topSpacer.nextSibling;
+            for (int i = newFirst; i < first; i++) {
+                attach(i, firstRendered);
+            }
+            for (int i = last; i < newLast; i++) {
+                attach(i, bottomSpacer);
+            }
+        }
+        first = newFirst;
+        last = newLast;
+        setSpacerHeight(topSpacer, first * entryHeight);
+        setSpacerHeight(bottomSpacer, (visibleEntries.size() - last) * entryHeight);
+    }
+
+    private void attach(int position, Node before) {
+        IsElement<HTMLLIElement> entry = visibleEntries.get(position);
+        HTMLLIElement element = entry.asElement();
+        Style.of(element).setHeight(entryHeight + "px").setProperty("overflow", "hidden");
+        optionsList.insertBefore(element, before);
+        if (entry instanceof SelectOption) {
+            renderedOptions.put(element, (SelectOption<T>) entry);
+        }
+    }
+
+    private void detach(int from, int to) {
+        for (int i = from; i < to && i < visibleEntries.size(); i++) {
+            HTMLLIElement element = visibleEntries.get(i).asElement();
+            element.remove();
+            renderedOptions.remove(element);
+        }
+    }
+
+    private void setSpacerHeight(HTMLLIElement spacer, int height) {
+        if (height > 0) {
+            Style.of(spacer).setHeight(height + "px").removeProperty("display");
+        } else {
+            Style.of(spacer).setDisplay("none");
+        }
+    }
+
+    private int positionOf(SelectOption<T> option) {
+        for (int i = first; i < last; i++) {
+            if (visibleEntries.get(i) == option) {
+                return i;
+            }
+        }
+        return visibleEntries.indexOf(option);
+    }
+
+    private void scrollTo(int position) {
+        double viewportHeight = optionsList.clientHeight > 0 ? optionsList.clientHeight : DEFAULT_VIEWPORT_HEIGHT;
+        int top = position * entryHeight;
+        if (top < optionsList.scrollTop) {
+            optionsList.scrollTop = top;
+        } else if (top + entryHeight > optionsList.scrollTop + viewportHeight) {
+            optionsList.scrollTop = top + entryHeight - viewportHeight;
+        }
+        render();
+    }
+
+    private void focusAt(int position) {
+        if (position >= 0 && position < visibleEntries.size()) {
+            scrollTo(position);
+            ((SelectOption<T>) visibleEntries.get(position)).focus();
+        }
+    }
+
+    private int nextOptionPosition(int from, int step) {
+        for (int i = from; i >= 0 && i < visibleEntries.size(); i += step) {
+            if (visibleEntries.get(i) instanceof SelectOption) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    void focus(SelectOption<T> option) {
+        update();
+        focusAt(positionOf(option));
+    }
+
+    void focusFirst() {
+        update();
+        focusAt(nextOptionPosition(0, 1));
+    }
+
+    void focusLast() {
+        update();
+        focusAt(nextOptionPosition(visibleEntries.size() - 1, -1));
+    }
+
+    void focusNext(SelectOption<T> option) {
+        update();
+        int next = nextOptionPosition(positionOf(option) + 1, 1);
+        focusAt(next >= 0 ? next : nextOptionPosition(0, 1));
+    }
+
+    void focusPrevious(SelectOption<T> option) {
+        update();
+        int previous = nextOptionPosition(positionOf(option) - 1, -1);
+        focusAt(previous >= 0 ? previous : nextOptionPosition(visibleEntries.size() - 1, -1));
+    }
+
+    void setEntryHeight(int entryHeight) {
+        this.entryHeight = Math.max(1, entryHeight);
+        this.stale = true;
+    }
+
+    void setBuffer(int buffer) {
+        this.buffer = Math.max(0, buffer);
+    }
+}
@@ -0,0 +1,245 @@
+package org.dominokit.domino.ui.utils;
+
+import elemental2.dom.Event;
+import elemental2.dom.EventListener;
+import elemental2.dom.HTMLElement;
+import elemental2.dom.Node;
+import jsinterop.base.Js;
+
+import java.util.*;
+
+import static elemental2.dom.DomGlobal.document;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Dispatches the document events to the components that need them. A single listener per event type is added to the
+ * document the first time a component registers for that type, components then register while they need the events,
+ * typically while their menu is open, and remove the returned handle when they are done. A document click only
+ * reaches the components registered at that moment instead of every instance in the page.
+ * <p>
+ * Handles can be bound to an element with {@link EventHandle#releaseOnDetach(HTMLElement)} so they are removed when
+ * the element is removed from the document.
+ */
+public final class DocumentEventsHub {
+
+    private static final String OUTSIDE_CLICK = "outside-click";
+    private static final EventHandle[] NO_HANDLES = new EventHandle[0];
+
+    private static final Map<String, EventHandle[]> handles = new HashMap<>();
+    private static final Set<String> installedTypes = new HashSet<>();
+    private static final Map<HTMLElement, List<EventHandle>> detachHandles = new IdentityHashMap<>();
+    private static boolean touchMoved = false;
+
+    /**
+     * Registers a listener for a document event type.
+     *
+     * @param type     the event type
+     * @param listener called for every event of the type dispatched to the document
+     * @return the handle to remove the listener with
+     */
+    public static EventHandle addListener(String type, EventListener listener) {
+        install(type);
+        return add(new EventHandle(type, listener, new Node[0]));
+    }
+
+    /**
+     * Registers a listener for clicks and taps outside of the provided elements, a tap is a touchend that is not
+     * preceded by a touchmove.
+     *
+     * @param listener       called with the click or touchend event
+     * @param insideElements clicks on these elements or their descendants are ignored
+     * @return the handle to remove the listener with
+     */
+    public static EventHandle addOutsideClickListener(EventListener listener, Node... insideElements) {
+        install("click");
+        install("touchstart");
+        install("touchmove");
+        install("touchend");
+        return add(new EventHandle(OUTSIDE_CLICK, listener, insideElements));
+    }
+
+    /**
+     * @return true if the current touch moved since it started, listeners of touchend events on the page elements
+     * can use it to ignore scrolls, it is reset after the touchend reaches the document
+     */
+    public static boolean isTouchMoved() {
+        return touchMoved;
+    }
+
+    private static void install(String type) {
+        if (!installedTypes.contains(type)) {
+            installedTypes.add(type);
+            document.addEventListener(type, evt -> onDocumentEvent(type, evt));
+        }
+    }
+
+    /**
+     * The single document listener of a type, it serves both the listeners of the type and the outside click
+     * listeners so the order in which they were first registered does not matter.
+     */
+    private static void onDocumentEvent(String type, Event evt) {
+        switch (type) {
+            case "touchstart":
+                touchMoved = false;
+                break;
+            case "touchmove":
+                touchMoved = true;
+                break;
+            default:
+                break;
+        }
+        dispatch(type, evt);
+        if ("click".equals(type)) {
+            dispatchOutsideClick(evt);
+        } else if ("touchend".equals(type)) {
+            if (!touchMoved) {
+                dispatchOutsideClick(evt);
+            }
+            touchMoved = false;
+        }
+    }
+
+    private static EventHandle add(EventHandle handle) {
+        EventHandle[] current = handles.getOrDefault(handle.type, NO_HANDLES);
+        EventHandle[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = handle;
+        handles.put(handle.type, updated);
+        return handle;
+    }
+
+    private static void remove(EventHandle handle) {
+        EventHandle[] current = handles.get(handle.type);
+        if (isNull(current)) {
+            return;
+        }
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == handle) {
+                if (current.length == 1) {
+                    handles.remove(handle.type);
+                } else {
+                    EventHandle[] updated = Arrays.copyOf(current, current.length - 1);
+                    System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                    handles.put(handle.type, updated);
+                }
+                return;
+            }
+        }
+    }
+
+    private static void dispatch(String type, Event evt) {
+        EventHandle[] current = handles.get(type);
+        if (nonNull(current)) {
+            for (EventHandle handle : current) {
+                if (!handle.removed) {
+                    handle.listener.handleEvent(evt);
+                }
+            }
+        }
+    }
+
+    private static void dispatchOutsideClick(Event evt) {
+        EventHandle[] current = handles.get(OUTSIDE_CLICK);
+        if (nonNull(current)) {
+            Node target = Js.uncheckedCast(evt.target);
+            for (EventHandle handle : current) {
+                if (!handle.removed && !handle.isInside(target)) {
+                    handle.listener.handleEvent(evt);
+                }
+            }
+        }
+    }
+
+    private static void bind(HTMLElement element, EventHandle handle) {
+        List<EventHandle> elementHandles = detachHandles.get(element);
+        if (isNull(elementHandles)) {
+            elementHandles = new ArrayList<>();
+            detachHandles.put(element, elementHandles);
+            ElementUtil.onDetach(element, mutationRecord -> {
+                List<EventHandle> released = detachHandles.remove(element);
+                if (nonNull(released)) {
+                    new ArrayList<>(released).forEach(EventHandle::remove);
+                }
+            });
+        }
+        elementHandles.add(handle);
+    }
+
+    private static void unbind(HTMLElement element, EventHandle handle) {
+        List<EventHandle> elementHandles = detachHandles.get(element);
+        if (nonNull(elementHandles)) {
+            elementHandles.remove(handle);
+        }
+    }
+
+    private DocumentEventsHub() {
+    }
+
+    public static final class EventHandle {
+        private final String type;
+        private final EventListener listener;
+        private final Node[] insideElements;
+        private HTMLElement boundElement;
+        private Runnable releaseHandler;
+        private boolean removed = false;
+
+        private EventHandle(String type, EventListener listener, Node[] insideElements) {
+            this.type = type;
+            this.listener = listener;
+            this.insideElements = insideElements;
+        }
+
+        private boolean isInside(Node target) {
+            for (Node insideElement : insideElements) {
+                if (nonNull(insideElement) && insideElement.contains(target)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Removes the handle automatically when the element is removed from the document, only one element can be
+         * bound to a handle.
+         *
+         * @param element the element of the component that registered the handle
+         * @return same handle instance
+         */
+        public EventHandle releaseOnDetach(HTMLElement element) {
+            if (!removed && isNull(boundElement)) {
+                boundElement = element;
+                bind(element, this);
+            }
+            return this;
+        }
+
+        /**
+         * Runs the handler once when the handle is removed, either explicitly or because its bound element was
+         * removed from the document.
+         *
+         * @param releaseHandler the handler to run
+         * @return same handle instance
+         */
+        public EventHandle onRelease(Runnable releaseHandler) {
+            this.releaseHandler = releaseHandler;
+            return this;
+        }
+
+        public void remove() {
+            if (!removed) {
+                removed = true;
+                DocumentEventsHub.remove(this);
+                if (nonNull(boundElement)) {
+                    unbind(boundElement, this);
+                }
+                if (nonNull(releaseHandler)) {
+                    releaseHandler.run();
+                }
+            }
+        }
+
+        public boolean isRemoved() {
+            return removed;
+        }
+    }
+}
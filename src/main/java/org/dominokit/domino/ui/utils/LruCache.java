@@ -0,0 +1,31 @@
+package org.dominokit.domino.ui.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class LruCache<K, V> extends LinkedHashMap<K, V> {
+
+    private int maxSize;
+
+    public LruCache(int maxSize) {
+        super(16, 0.75f, true);
+        this.maxSize = maxSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public LruCache<K, V> setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+        while (size() > maxSize) {
+            remove(keySet().iterator().next());
+        }
+        return this;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        return size() > maxSize;
+    }
+}
@@ -1,7 +1,45 @@
 package org.dominokit.domino.ui.utils;
 
 public class TextUtil {
+
+    private static final char FOLDED_FROM = '\u00c0';
+    // base letters of the characters from U+00C0 to U+017F, characters without a base letter map to themselves
+    private static final String FOLDED = "AAAAAAACEEEEIIIIDNOOOOO\u00d7OUUUUYTs"
+            + "aaaaaaaceeeeiiiidnooooo\u00f7ouuuuyty"
+            + "AaAaAaCcCcCcCcDdDdEeEeEeEeEeGgGg"
+            + "GgGgHhHhIiIiIiIiIi\u0132\u0133JjKk\u0138LlLlLl\u013f"
+            + "\u0140LlNnNnNn\u0149\u014a\u014bOoOoOoOoRrRrRrSsSsSs"
+            + "SsTtTtTtUuUuUuUuUuUuWwYyYZzZzZz\u017f";
+
     public static String firstLetterToUpper(String input) {
         return input.substring(0, 1).toUpperCase() + input.substring(1);
     }
+
+    /**
+     * Replaces the accented latin letters of the text by their base letter, letters without a single base letter such
+     * as the sharp s are replaced by the closest one.
+     *
+     * @param input the text to fold
+     * @return the folded text, the same instance if the text has no accented letter
+     */
+    public static String foldAccents(String input) {
+        int i = 0;
+        while (i < input.length() && !isFoldable(input.charAt(i))) {
+            i++;
+        }
+        if (i == input.length()) {
+            return input;
+        }
+        char[] folded = input.toCharArray();
+        for (; i < folded.length; i++) {
+            if (isFoldable(folded[i])) {
+                folded[i] = FOLDED.charAt(folded[i] - FOLDED_FROM);
+            }
+        }
+        return new String(folded);
+    }
+
+    private static boolean isFoldable(char c) {
+        return c >= FOLDED_FROM && c < FOLDED_FROM + FOLDED.length();
+    }
 }
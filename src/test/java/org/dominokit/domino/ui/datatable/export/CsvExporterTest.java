@@ -0,0 +1,116 @@
+package org.dominokit.domino.ui.datatable.export;
+
+import org.dominokit.domino.ui.datatable.ColumnConfig;
+import org.dominokit.domino.ui.datatable.events.SearchEvent;
+import org.dominokit.domino.ui.datatable.store.LocalListDataStore;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CsvExporterTest {
+
+    private final StringBuilder output = new StringBuilder();
+    private final List<Integer> progress = new ArrayList<>();
+    private boolean closed = false;
+
+    private final ExportSink sink = new ExportSink() {
+        @Override
+        public void write(String chunk) {
+            output.append(chunk);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    };
+
+    private final ExportListener listener = new ExportListener() {
+        @Override
+        public void onProgress(int exportedCount, int totalCount) {
+            progress.add(exportedCount);
+        }
+    };
+
+    private static List<ColumnConfig<String[]>> columns() {
+        return Arrays.asList(
+                ColumnConfig.<String[]>create("name", "Name").setExportValue(record -> record[0]),
+                ColumnConfig.<String[]>create("note", "Note").setExportValue(record -> record[1]),
+                ColumnConfig.<String[]>create("actions", "Actions"));
+    }
+
+    private static CsvExporter<String[]> synchronousExporter() {
+        return CsvExporter.create(columns())
+                .setLineSeparator("\n")
+                .setChunkScheduler(Runnable::run);
+    }
+
+    @Test
+    public void exportsTheColumnsWithAnExportValue() {
+        CsvExporter<String[]>.Export export = synchronousExporter()
+                .export(Arrays.asList(new String[]{"a", "1"}, new String[]{"b", null}), sink);
+
+        assertThat(output.toString()).isEqualTo("Name,Note\na,1\nb,\n");
+        assertThat(closed).isTrue();
+        assertThat(export.isCompleted()).isTrue();
+        assertThat(export.getExportedCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void quotesValuesWithDelimitersQuotesAndLineBreaks() {
+        synchronousExporter()
+                .setIncludeHeader(false)
+                .export(Arrays.asList(new String[]{"a,b", "say \"hi\""}, new String[]{"line\nbreak", "x"}), sink);
+
+        assertThat(output.toString()).isEqualTo("\"a,b\",\"say \"\"hi\"\"\"\n\"line\nbreak\",x\n");
+    }
+
+    @Test
+    public void writesOneChunkPerChunkSize() {
+        List<String[]> records = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            records.add(new String[]{"r" + i, ""});
+        }
+        synchronousExporter().setIncludeHeader(false).setChunkSize(2).export(records, sink, listener);
+
+        assertThat(progress).containsExactly(2, 4);
+        assertThat(output.toString()).startsWith("r0,\nr1,\nr2,");
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    public void stopsAfterTheCurrentChunkWhenCancelled() {
+        List<Runnable> scheduled = new ArrayList<>();
+        List<String[]> records = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            records.add(new String[]{"r" + i, ""});
+        }
+        CsvExporter<String[]>.Export export = CsvExporter.create(columns())
+                .setIncludeHeader(false)
+                .setChunkSize(2)
+                .setChunkScheduler(scheduled::add)
+                .export(records, sink);
+        export.cancel();
+        scheduled.forEach(Runnable::run);
+
+        assertThat(export.isCancelled()).isTrue();
+        assertThat(export.getExportedCount()).isEqualTo(2);
+        assertThat(closed).isFalse();
+    }
+
+    @Test
+    public void exportsTheFilteredRecordsOfAStore() {
+        LocalListDataStore<String[]> store = new LocalListDataStore<>(new ArrayList<>(Arrays.asList(
+                new String[]{"a", "keep"}, new String[]{"b", "drop"}, new String[]{"c", "keep"})));
+        store.setSearchFilter((event, record) -> record[1].equals(event.getSearchText()));
+        store.handleEvent(new SearchEvent("keep", null));
+
+        synchronousExporter().setIncludeHeader(false).export(store, sink);
+
+        assertThat(output.toString()).isEqualTo("a,keep\nc,keep\n");
+    }
+}
@@ -0,0 +1,76 @@
+package org.dominokit.domino.ui.datatable.store;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CachingRecordsFetcherTest {
+
+    private final List<RecordsFetcher.FetchCallback<Integer>> delegateCallbacks = new ArrayList<>();
+    private final List<List<Integer>> received = new ArrayList<>();
+    private CachingRecordsFetcher<Integer> fetcher;
+
+    @Before
+    public void setUp() {
+        fetcher = new CachingRecordsFetcher<Integer>((request, callback) -> {
+            delegateCallbacks.add(callback);
+            return () -> {
+            };
+        }).setPrefetch(false);
+    }
+
+    private PageRequest<Integer> page(int offset) {
+        return new PageRequest<>(offset, 10, null, null, Collections.emptyList());
+    }
+
+    private RecordsFetcher.FetchCallback<Integer> receiver() {
+        return new RecordsFetcher.FetchCallback<Integer>() {
+            @Override
+            public void onSuccess(List<Integer> records, int totalCount) {
+                received.add(records);
+            }
+
+            @Override
+            public void onFailed(Throwable error) {
+            }
+        };
+    }
+
+    @Test
+    public void countsARequestForAPageInFlightAsAJoin() {
+        fetcher.fetch(page(0), receiver());
+        fetcher.fetch(page(0), receiver());
+
+        assertThat(delegateCallbacks).hasSize(1);
+        assertThat(fetcher.getMisses()).isEqualTo(1);
+        assertThat(fetcher.getJoins()).isEqualTo(1);
+        assertThat(fetcher.getHits()).isEqualTo(0);
+
+        delegateCallbacks.get(0).onSuccess(Arrays.asList(1, 2, 3), 3);
+
+        assertThat(received).hasSize(2);
+    }
+
+    @Test
+    public void countsACachedPageAsAHit() {
+        fetcher.fetch(page(0), receiver());
+        delegateCallbacks.get(0).onSuccess(Arrays.asList(1, 2, 3), 3);
+        fetcher.fetch(page(0), receiver());
+
+        assertThat(delegateCallbacks).hasSize(1);
+        assertThat(fetcher.getHits()).isEqualTo(1);
+        assertThat(fetcher.getMisses()).isEqualTo(1);
+        assertThat(fetcher.getJoins()).isEqualTo(0);
+
+        fetcher.resetStats();
+
+        assertThat(fetcher.getHits()).isEqualTo(0);
+        assertThat(fetcher.getMisses()).isEqualTo(0);
+    }
+}
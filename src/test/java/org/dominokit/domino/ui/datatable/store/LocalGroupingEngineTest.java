@@ -0,0 +1,97 @@
+package org.dominokit.domino.ui.datatable.store;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LocalGroupingEngineTest {
+
+    private final Comparator<String> comparator = Comparator.comparing(record -> record.substring(1));
+    private final LocalGroupingEngine<String> engine = new LocalGroupingEngine<>();
+    private List<String> records;
+
+    /**
+     * The first letter of a record is its group key and the rest is its sort value.
+     */
+    @Before
+    public void setUp() {
+        engine.setGroupKeyProvider(record -> record.substring(0, 1));
+        engine.addAggregation(Aggregation.count("count"));
+        records = new ArrayList<>(Arrays.asList("b1", "a2", "b3", "c4", "a5"));
+        records.sort(comparator);
+        engine.sync(records);
+        engine.group(records);
+    }
+
+    private void insert(String record) {
+        engine.add(record);
+        engine.insert(records, record, comparator);
+    }
+
+    private void removeAt(int position) {
+        String record = records.get(position);
+        engine.removeAt(records, position, comparator);
+        engine.remove(record);
+    }
+
+    @Test
+    public void groupsTheRecordsOrderedByTheirFirstRecord() {
+        assertThat(records).containsExactly("b1", "b3", "a2", "a5", "c4");
+        assertThat(engine.getGroup("a").getCount()).isEqualTo(2);
+        assertThat(engine.getTotals().getCount()).isEqualTo(5);
+    }
+
+    @Test
+    public void insertsARecordInTheRunOfItsGroup() {
+        insert("a4");
+
+        assertThat(records).containsExactly("b1", "b3", "a2", "a4", "a5", "c4");
+        assertThat(engine.getGroup("a").getCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void movesAGroupWhoseFirstRecordChanged() {
+        insert("c0");
+
+        assertThat(records).containsExactly("c0", "c4", "b1", "b3", "a2", "a5");
+    }
+
+    @Test
+    public void placesANewGroupByItsRecord() {
+        // the first record of the new group compares equal to the first record of the a group, it goes after it
+        insert("d2");
+
+        assertThat(records).containsExactly("b1", "b3", "a2", "a5", "d2", "c4");
+        assertThat(engine.getGroup("d").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void appendsToTheRunWithoutAComparator() {
+        engine.add("a0");
+        engine.insert(records, "a0", null);
+
+        assertThat(records).containsExactly("b1", "b3", "a2", "a5", "a0", "c4");
+    }
+
+    @Test
+    public void movesAGroupWhoseFirstRecordWasRemoved() {
+        removeAt(0);
+
+        assertThat(records).containsExactly("a2", "a5", "b3", "c4");
+    }
+
+    @Test
+    public void removesTheGroupOfItsLastRecord() {
+        removeAt(4);
+
+        assertThat(records).containsExactly("b1", "b3", "a2", "a5");
+        assertThat(engine.getGroup("c")).isNull();
+        assertThat(engine.getTotals().getCount()).isEqualTo(4);
+    }
+}
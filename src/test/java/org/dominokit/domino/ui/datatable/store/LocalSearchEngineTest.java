@@ -0,0 +1,98 @@
+package org.dominokit.domino.ui.datatable.store;
+
+import org.dominokit.domino.ui.datatable.events.SearchEvent;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LocalSearchEngineTest {
+
+    private final List<String> records = new ArrayList<>(Arrays.asList("Apple", "apricot", "Banana", "cherry", "grape"));
+    private final List<String> filtered = new ArrayList<>();
+    private final LocalSearchEngine<String> engine = new LocalSearchEngine<>();
+
+    private final SearchFilter<String> filter = (event, record) -> {
+        filtered.add(record);
+        return record.toLowerCase().contains(event.getSearchText().toLowerCase());
+    };
+
+    private List<String> search(String text) {
+        return engine.search(records, new SearchEvent(text, null), filter, result -> {
+        });
+    }
+
+    @Test
+    public void filtersTheRecordsKeepingTheirOrder() {
+        assertThat(search("ap")).containsExactly("Apple", "apricot", "grape");
+    }
+
+    @Test
+    public void servesARepeatedSearchFromTheCache() {
+        List<String> first = search("an");
+        filtered.clear();
+
+        assertThat(search("an")).isSameAs(first);
+        assertThat(filtered).isEmpty();
+    }
+
+    @Test
+    public void narrowsThePreviousResultWhenIncremental() {
+        engine.setIncremental(true);
+        search("ap");
+        filtered.clear();
+
+        assertThat(search("apr")).containsExactly("apricot");
+        assertThat(filtered).containsExactly("Apple", "apricot", "grape");
+    }
+
+    @Test
+    public void filtersAllTheRecordsWhenNotIncremental() {
+        search("ap");
+        filtered.clear();
+        search("apr");
+
+        assertThat(filtered).hasSize(records.size());
+    }
+
+    @Test
+    public void matchesTheIndexedTextIgnoringTheCase() {
+        engine.setSearchTextProvider((record, field) -> record);
+
+        assertThat(engine.search(records, new SearchEvent("AN", null), null, result -> {
+        })).containsExactly("Banana");
+    }
+
+    @Test
+    public void sortsOnlyTheResultsFilteredFromAllTheRecords() {
+        engine.setIncremental(true);
+        List<List<String>> sorted = new ArrayList<>();
+        engine.search(records, new SearchEvent("a", null), filter, sorted::add);
+        engine.search(records, new SearchEvent("ap", null), filter, sorted::add);
+
+        assertThat(sorted).hasSize(1);
+    }
+
+    @Test
+    public void matchesChangedRecordsAgainstTheUpdatedIndex() {
+        engine.setSearchTextProvider((record, field) -> record);
+        List<String> result = engine.search(records, new SearchEvent("an", null), null, sorted -> {
+        });
+        String mango = "Mango";
+        records.add(mango);
+        engine.onRecordsChanged(Collections.singletonList(mango), Collections.emptyList());
+        // the store adds the matching records to the last result itself
+        result.add(mango);
+
+        assertThat(engine.matches(mango, new SearchEvent("an", null), null)).isTrue();
+        assertThat(engine.matches("grape", new SearchEvent("an", null), null)).isFalse();
+        assertThat(engine.search(records, new SearchEvent("ana", null), null, sorted -> {
+        })).containsExactly("Banana");
+        assertThat(engine.search(records, new SearchEvent("an", null), null, sorted -> {
+        })).containsExactly("Banana", "Mango");
+    }
+}
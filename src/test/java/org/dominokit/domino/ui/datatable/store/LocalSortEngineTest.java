@@ -0,0 +1,121 @@
+package org.dominokit.domino.ui.datatable.store;
+
+import org.dominokit.domino.ui.datatable.ColumnConfig;
+import org.dominokit.domino.ui.datatable.events.SortKey;
+import org.dominokit.domino.ui.datatable.plugins.SortDirection;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LocalSortEngineTest {
+
+    private static final Person ANNA = new Person("anna", 30);
+    private static final Person BOB = new Person("bob", 25);
+    private static final Person CARL = new Person("carl", 30);
+    private static final Person DINA = new Person("dina", 25);
+    private static final Person EMMA = new Person("emma", 40);
+
+    private final List<Person> all = Arrays.asList(ANNA, BOB, CARL, DINA, EMMA);
+    private final LocalSortEngine<Person> engine = new LocalSortEngine<>();
+
+    @Before
+    public void setUp() {
+        engine.setRecordsSorter((sortBy, direction) -> {
+            Comparator<Person> comparator = "age".equals(sortBy)
+                    ? Comparator.comparingInt(person -> person.age)
+                    : Comparator.comparing(person -> person.name);
+            return SortDirection.DESC.equals(direction) ? comparator.reversed() : comparator;
+        });
+    }
+
+    private static List<SortKey<Person>> keys(Object... columnsAndDirections) {
+        List<SortKey<Person>> keys = new ArrayList<>();
+        for (int i = 0; i < columnsAndDirections.length; i += 2) {
+            keys.add(new SortKey<>(ColumnConfig.create((String) columnsAndDirections[i]), (SortDirection) columnsAndDirections[i + 1]));
+        }
+        return keys;
+    }
+
+    private List<Person> sorted(List<SortKey<Person>> sortKeys) {
+        List<Person> records = new ArrayList<>(all);
+        engine.sort(records, sortKeys, all);
+        return records;
+    }
+
+    @Test
+    public void sortsByManyKeysInPriorityOrder() {
+        assertThat(sorted(keys("age", SortDirection.ASC, "name", SortDirection.DESC)))
+                .containsExactly(DINA, BOB, CARL, ANNA, EMMA);
+    }
+
+    @Test
+    public void keepsTheOrderOfEqualRecords() {
+        assertThat(sorted(keys("age", SortDirection.ASC))).containsExactly(BOB, DINA, ANNA, CARL, EMMA);
+    }
+
+    @Test
+    public void flipsASortedListKeepingEqualRecordsInOrder() {
+        List<Person> records = new ArrayList<>(all);
+        engine.sort(records, keys("age", SortDirection.ASC), all);
+        engine.sort(records, keys("age", SortDirection.DESC), all);
+
+        assertThat(records).containsExactly(EMMA, ANNA, CARL, BOB, DINA);
+    }
+
+    @Test
+    public void sortsByTheProvidedSortValues() {
+        LocalSortEngine<Person> valuesEngine = new LocalSortEngine<>();
+        valuesEngine.setSortValueProvider((record, sortBy) -> "age".equals(sortBy) ? record.age : record.name);
+        List<Person> records = new ArrayList<>(all);
+        valuesEngine.sort(records, keys("age", SortDirection.DESC, "name", SortDirection.ASC), all);
+
+        assertThat(records).containsExactly(EMMA, ANNA, CARL, BOB, DINA);
+    }
+
+    @Test
+    public void sortsASubsetByTheRanksOfAllTheRecords() {
+        engine.setIndexed(true);
+        List<Person> subset = new ArrayList<>(Arrays.asList(EMMA, CARL, BOB));
+        engine.sort(subset, keys("age", SortDirection.ASC, "name", SortDirection.ASC), all);
+
+        assertThat(subset).containsExactly(BOB, CARL, EMMA);
+    }
+
+    @Test
+    public void insertsARecordAfterTheRecordsThatCompareEqual() {
+        List<SortKey<Person>> sortKeys = keys("age", SortDirection.ASC);
+        List<Person> records = sorted(sortKeys);
+        Person frank = new Person("frank", 30);
+        Comparator<Person> comparator = engine.recordComparator(sortKeys);
+        records.add(LocalSortEngine.upperBound(records, 0, records.size(), frank, comparator), frank);
+
+        assertThat(records).containsExactly(BOB, DINA, ANNA, CARL, frank, EMMA);
+    }
+
+    @Test
+    public void isEnabledOnlyWithASorterOrSortValues() {
+        assertThat(new LocalSortEngine<Person>().isEnabled()).isFalse();
+        assertThat(engine.isEnabled()).isTrue();
+    }
+
+    private static class Person {
+        private final String name;
+        private final int age;
+
+        private Person(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package org.dominokit.domino.ui.datatable.store;
+
+import org.dominokit.domino.ui.datatable.events.BodyScrollEvent;
+import org.dominokit.domino.ui.datatable.events.SearchEvent;
+import org.dominokit.domino.ui.datatable.plugins.BodyScrollPlugin;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.util.Objects.isNull;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RemoteDataStoreTest {
+
+    private final List<Runnable> scheduled = new ArrayList<>();
+    private final List<DataChangedEvent<Integer>> events = new ArrayList<>();
+    private final List<PageRequest<Integer>> requests = new ArrayList<>();
+    private RemoteDataStore<Integer> store;
+
+    @Before
+    public void setUp() {
+        List<Integer> records = IntStream.range(0, 120).boxed().collect(Collectors.toList());
+        InMemoryRecordsFetcher<Integer> fetcher = new InMemoryRecordsFetcher<Integer>(records)
+                .setSearchFilter((event, record) -> isNull(event.getSearchText())
+                        || String.valueOf(record).contains(event.getSearchText()));
+        store = new RemoteDataStore<Integer>((request, callback) -> {
+            requests.add(request);
+            return fetcher.fetch(request, callback);
+        }).setDebounceScheduler((task, delay) -> {
+            scheduled.add(task);
+            return () -> scheduled.remove(task);
+        });
+        store.onDataChanged(events::add);
+    }
+
+    private void runScheduled() {
+        new ArrayList<>(scheduled).forEach(task -> {
+            scheduled.remove(task);
+            task.run();
+        });
+    }
+
+    @Test
+    public void loadsTheFirstPage() {
+        store.load();
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getNewData()).hasSize(50);
+        assertThat(events.get(0).getTotalCount()).isEqualTo(120);
+        assertThat(store.isLoading()).isFalse();
+    }
+
+    @Test
+    public void coalescesTheSearchesWithinTheDebounceDelay() {
+        store.load();
+        store.handleEvent(new SearchEvent("1", null));
+        store.handleEvent(new SearchEvent("11", null));
+
+        assertThat(store.isLoading()).isTrue();
+        assertThat(scheduled).hasSize(1);
+        runScheduled();
+
+        assertThat(requests).hasSize(2);
+        assertThat(requests.get(1).getSearchText()).isEqualTo("11");
+        assertThat(events.get(events.size() - 1).getNewData()).containsExactly(11, 110, 111, 112, 113, 114, 115, 116, 117, 118, 119);
+        assertThat(store.isLoading()).isFalse();
+    }
+
+    @Test
+    public void appendsTheNextPageWhenScrolledToTheBottom() {
+        store.load();
+        store.handleEvent(new BodyScrollEvent(BodyScrollPlugin.ScrollPosition.BOTTOM));
+
+        assertThat(requests.get(1).getOffset()).isEqualTo(50);
+        assertThat(events.get(1).isAppend()).isTrue();
+        assertThat(events.get(1).getNewData().get(0)).isEqualTo(50);
+    }
+
+    @Test
+    public void ignoresTheResponseOfASupersededRequest() {
+        List<RecordsFetcher.FetchCallback<Integer>> callbacks = new ArrayList<>();
+        List<Integer> cancelled = new ArrayList<>();
+        RemoteDataStore<Integer> delayedStore = new RemoteDataStore<Integer>((request, callback) -> {
+            callbacks.add(callback);
+            int requestIndex = callbacks.size() - 1;
+            return () -> cancelled.add(requestIndex);
+        }).setDebounceScheduler((task, delay) -> {
+            scheduled.add(task);
+            return () -> scheduled.remove(task);
+        });
+        delayedStore.onDataChanged(events::add);
+
+        delayedStore.load();
+        delayedStore.handleEvent(new SearchEvent("1", null));
+        runScheduled();
+        callbacks.get(0).onSuccess(listOf(1, 2, 3), 3);
+        callbacks.get(1).onSuccess(listOf(1), 1);
+
+        assertThat(cancelled).containsExactly(0);
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getNewData()).containsExactly(1);
+        assertThat(delayedStore.getTotalCount()).isEqualTo(1);
+    }
+
+    private static List<Integer> listOf(Integer... values) {
+        List<Integer> list = new ArrayList<>();
+        for (Integer value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+}
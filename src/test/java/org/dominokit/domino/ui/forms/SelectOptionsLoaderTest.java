@@ -0,0 +1,135 @@
+package org.dominokit.domino.ui.forms;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SelectOptionsLoaderTest {
+
+    private final List<String> shown = new ArrayList<>();
+    private final List<SelectOptionsRequest> requests = new ArrayList<>();
+    private final List<Boolean> loading = new ArrayList<>();
+    private String noResultsText;
+    private List<SelectOption<Integer>> options;
+    private SelectOptionsLoader<Integer> loader;
+
+    private final SelectOptionsLoader.OptionsView<Integer> view = new SelectOptionsLoader.OptionsView<Integer>() {
+        @Override
+        public void showLoadedOptions(List<SelectOption<Integer>> loadedOptions) {
+            shown.clear();
+            appendLoadedOptions(loadedOptions);
+        }
+
+        @Override
+        public void appendLoadedOptions(List<SelectOption<Integer>> loadedOptions) {
+            loadedOptions.forEach(option -> shown.add(option.getDisplayValue()));
+        }
+
+        @Override
+        public void onOptionsLoaded(String searchText, boolean empty) {
+            noResultsText = empty ? searchText : null;
+        }
+
+        @Override
+        public void setLoading(boolean isLoading) {
+            loading.add(isLoading);
+        }
+    };
+
+    @Before
+    public void setUp() {
+        options = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            options.add(SelectOption.create(i, "key" + i, "Option " + i));
+        }
+        options.add(SelectOption.create(100, "cafe", "Caf\u00e9"));
+        InMemorySelectOptionsSource<Integer> source = new InMemorySelectOptionsSource<>(options);
+        loader = new SelectOptionsLoader<>(view, (request, callback) -> {
+            requests.add(request);
+            return source.load(request, callback);
+        });
+        loader.setPageSize(10);
+    }
+
+    @Test
+    public void loadsTheFirstPageOfASearch() {
+        loader.search("");
+
+        assertThat(shown).hasSize(10);
+        assertThat(shown.get(0)).isEqualTo("Option 0");
+        assertThat(requests.get(0)).isEqualTo(new SelectOptionsRequest("", 0, 10));
+        assertThat(loading).containsExactly(true, false);
+    }
+
+    @Test
+    public void appendsTheNextPagesUntilAllAreLoaded() {
+        loader.search("");
+        loader.loadNextPage();
+        loader.loadNextPage();
+        loader.loadNextPage();
+
+        assertThat(shown).hasSize(26);
+        assertThat(requests).hasSize(3);
+        assertThat(requests.get(2).getOffset()).isEqualTo(20);
+    }
+
+    @Test
+    public void servesAPreviousSearchFromTheCache() {
+        loader.search("option 1");
+        loader.search("option 2");
+        loader.search("option 1");
+
+        assertThat(requests).hasSize(2);
+        assertThat(shown).containsExactly("Option 1", "Option 10", "Option 11", "Option 12", "Option 13",
+                "Option 14", "Option 15", "Option 16", "Option 17", "Option 18");
+    }
+
+    @Test
+    public void matchesIgnoringCaseAndAccents() {
+        loader.search("CAFE");
+
+        assertThat(shown).containsExactly("Caf\u00e9");
+    }
+
+    @Test
+    public void reportsAnEmptySearch() {
+        loader.search("missing");
+
+        assertThat(shown).isEmpty();
+        assertThat(noResultsText).isEqualTo("missing");
+    }
+
+    @Test
+    public void ignoresTheResponseOfACancelledLoad() {
+        List<SelectOptionsSource.LoadCallback<Integer>> callbacks = new ArrayList<>();
+        List<Integer> cancelled = new ArrayList<>();
+        SelectOptionsLoader<Integer> deferredLoader = new SelectOptionsLoader<>(view, (request, callback) -> {
+            callbacks.add(callback);
+            int loadIndex = callbacks.size() - 1;
+            return () -> cancelled.add(loadIndex);
+        });
+
+        deferredLoader.search("a");
+        deferredLoader.search("b");
+        callbacks.get(0).onSuccess(options.subList(0, 2), false);
+
+        assertThat(cancelled).containsExactly(0);
+        assertThat(shown).isEmpty();
+
+        callbacks.get(1).onSuccess(options.subList(2, 3), false);
+        assertThat(shown).containsExactly("Option 2");
+    }
+
+    @Test
+    public void loadsAgainAfterAReset() {
+        loader.search("");
+        loader.reset();
+        loader.search("");
+
+        assertThat(requests).hasSize(2);
+    }
+}
@@ -0,0 +1,104 @@
+package org.dominokit.domino.ui.forms;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SelectSearchIndexTest {
+
+    private final SelectSearchIndex<String> index = new SelectSearchIndex<>();
+    private final List<String> shown = new ArrayList<>();
+    private final List<String> hidden = new ArrayList<>();
+    private final List<SelectOption<String>> options = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        for (String value : new String[]{"Paris", "Parma", "Praha", "Montr\u00e9al", "Lisbon"}) {
+            SelectOption<String> option = SelectOption.create(value, value);
+            options.add(option);
+            index.add(option);
+        }
+    }
+
+    private boolean search(String text) {
+        shown.clear();
+        hidden.clear();
+        return index.search(text, (option, isShown) -> (isShown ? shown : hidden).add(option.getValue()));
+    }
+
+    private List<String> visible() {
+        List<String> visible = new ArrayList<>();
+        options.stream().filter(index::isShown).forEach(option -> visible.add(option.getValue()));
+        return visible;
+    }
+
+    @Test
+    public void showsTheOptionsContainingTheTextIgnoringTheCase() {
+        assertThat(search("PAR")).isTrue();
+
+        assertThat(visible()).containsExactly("Paris", "Parma");
+        assertThat(hidden).containsExactly("Praha", "Montr\u00e9al", "Lisbon");
+    }
+
+    @Test
+    public void reportsOnlyTheOptionsWhoseVisibilityChanged() {
+        search("par");
+        search("pari");
+
+        assertThat(hidden).containsExactly("Parma");
+        assertThat(shown).isEmpty();
+
+        search("a");
+        assertThat(shown).containsExactly("Parma", "Praha", "Montr\u00e9al");
+        assertThat(hidden).isEmpty();
+    }
+
+    @Test
+    public void reportsNoChangeForTheSameText() {
+        search("par");
+
+        assertThat(search("par")).isFalse();
+    }
+
+    @Test
+    public void matchesIgnoringTheAccents() {
+        search("montreal");
+
+        assertThat(visible()).containsExactly("Montr\u00e9al");
+    }
+
+    @Test
+    public void respectsTheCaseWhenCaseSensitive() {
+        index.setCaseSensitive(true);
+        search("par");
+
+        assertThat(visible()).isEmpty();
+        assertThat(index.hasShownOptions()).isFalse();
+    }
+
+    @Test
+    public void findsTheSameOptionsThroughTheTrigramIndex() {
+        index.setTrigramIndexed(true);
+        search("ris");
+        assertThat(visible()).containsExactly("Paris");
+
+        search("arm");
+        assertThat(visible()).containsExactly("Parma");
+
+        search("xyz");
+        assertThat(visible()).isEmpty();
+    }
+
+    @Test
+    public void forgetsRemovedOptions() {
+        index.remove(options.get(0));
+        search("par");
+
+        assertThat(shown).isEmpty();
+        assertThat(hidden).containsExactly("Praha", "Montr\u00e9al", "Lisbon");
+    }
+}
@@ -0,0 +1,42 @@
+package org.dominokit.domino.ui.utils;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TextUtilTest {
+
+    @Test
+    public void foldsTheAccentedLatinLetters() {
+        assertThat(TextUtil.foldAccents("Cr\u00e8me Br\u00fbl\u00e9e")).isEqualTo("Creme Brulee");
+        assertThat(TextUtil.foldAccents("\u00c0\u00c9\u00ce\u00d5\u00dc\u00c7\u00d1")).isEqualTo("AEIOUCN");
+        assertThat(TextUtil.foldAccents("\u0141\u00f3d\u017a \u0160koda \u0159e\u010d")).isEqualTo("Lodz Skoda rec");
+    }
+
+    @Test
+    public void foldsTheLettersWithoutABaseLetterToTheClosestOne() {
+        assertThat(TextUtil.foldAccents("Stra\u00dfe")).isEqualTo("Strase");
+    }
+
+    @Test
+    public void keepsTheCharactersThatAreNotLetters() {
+        assertThat(TextUtil.foldAccents("2\u00d73\u00f7")).isEqualTo("2\u00d73\u00f7");
+    }
+
+    @Test
+    public void returnsTheSameInstanceWithoutAccents() {
+        String text = "plain text \u4e2d";
+
+        assertThat(TextUtil.foldAccents(text)).isSameAs(text);
+    }
+
+    @Test
+    public void foldsTheWholeLatinExtendedABlock() {
+        for (char c = '\u00c0'; c <= '\u017f'; c++) {
+            String folded = TextUtil.foldAccents(String.valueOf(c));
+            assertThat(folded.length()).isEqualTo(1);
+        }
+        assertThat(TextUtil.foldAccents("\u017e\u017f")).isEqualTo("z\u017f");
+        assertThat(TextUtil.foldAccents("\u0180")).isEqualTo("\u0180");
+    }
+}